@@ -0,0 +1,120 @@
+package api;
+
+import config.Config;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Client for the application's login API (api.base.url, or /api on the application's origin)
+ * Gives tests a session token without typing credentials into the login page.
+ */
+public class AuthApi {
+
+    private static final Json JSON = new Json();
+    private static final String LOGIN_PATH = "/ecom/auth/login";
+
+    private static final LongAdder logins = new LongAdder();
+    private static final LongAdder totalMillis = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+    private static final LongAdder unavailable = new LongAdder();
+
+    private final URI loginUri;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+
+    /**
+     * @param apiBaseUrl API root, e.g. https://host/api
+     * @param timeout Connect and request timeout
+     */
+    public AuthApi(String apiBaseUrl, Duration timeout) {
+        this.loginUri = URI.create(apiBaseUrl.replaceAll("/+$", "") + LOGIN_PATH);
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    /**
+     * Client for the application served at siteUrl, configured from api.base.url and timeout.api
+     */
+    public static AuthApi forSite(String siteUrl) {
+        return new AuthApi(Config.getApiBaseUrl(siteUrl), Duration.ofSeconds(Config.getApiTimeout()));
+    }
+
+    /**
+     * Log in through the API
+     * @return Session token, or null when the credentials are rejected or the API cannot be used
+     *         (callers fall back to logging in through the UI)
+     */
+    public AuthToken login(String email, String password) {
+        long start = System.nanoTime();
+        try {
+            HttpRequest request = HttpRequest.newBuilder(loginUri)
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            JSON.toJson(Map.of("userEmail", email, "userPassword", password))))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            Map<?, ?> body = JSON.toType(response.body(), Map.class);
+            Object token = body == null ? null : body.get("token");
+            if (response.statusCode() == 200 && token != null) {
+                logins.increment();
+                totalMillis.add((System.nanoTime() - start) / 1_000_000);
+                Object userId = body.get("userId");
+                return new AuthToken(String.valueOf(token), userId == null ? null : String.valueOf(userId));
+            }
+            rejected.increment();
+            System.err.println("❌ API login rejected for " + email + " (HTTP " + response.statusCode() + ": "
+                    + (body == null ? "" : body.get("message")) + ")");
+            return null;
+        } catch (IOException | JsonException | ClassCastException e) {
+            unavailable.increment();
+            System.err.println("⚠️ Login API unavailable at " + loginUri + " (" + (e.getMessage() == null ? e : e.getMessage()) + ")");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unavailable.increment();
+            return null;
+        }
+    }
+
+    public static void printStatistics() {
+        long count = logins.sum();
+        if (count + rejected.sum() + unavailable.sum() > 0) {
+            System.out.println("🔑 API logins: " + count + " (avg " + (count == 0 ? 0 : totalMillis.sum() / count)
+                    + "ms), " + rejected.sum() + " rejected, " + unavailable.sum() + " with the API unavailable");
+        }
+    }
+
+    /**
+     * Token issued by the login API
+     */
+    public static final class AuthToken {
+        private final String token;
+        private final String userId;
+
+        public AuthToken(String token, String userId) {
+            this.token = token;
+            this.userId = userId;
+        }
+
+        public String getToken() {
+            return token;
+        }
+
+        /**
+         * User id reported with the token (needed for user-scoped API calls), may be null
+         */
+        public String getUserId() {
+            return userId;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package api;
+
+import config.Config;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Test data access to users' carts through the shop's backend API (api.base.url, or /api on the shop's origin)
+ * Lets tests start with a known cart instead of filling it through the catalogue UI.
+ * The API has no bulk endpoint, so all add/remove requests of one call are sent concurrently
+ * and cost about one round trip together.
+ */
+public class CartApi {
+
+    private static final Json JSON = new Json();
+    private static final Map<String, CartApi> clients = new ConcurrentHashMap<>();
+
+    private static final LongAdder seeded = new LongAdder();
+    private static final LongAdder cleared = new LongAdder();
+    private static final LongAdder requests = new LongAdder();
+    private static final LongAdder totalMillis = new LongAdder();
+    private static final LongAdder failures = new LongAdder();
+
+    private final String apiBaseUrl;
+    private final Duration timeout;
+    private final HttpClient httpClient;
+    // Product name -> product as the API describes it, loaded once
+    private volatile Map<String, Map<?, ?>> catalogue;
+
+    /**
+     * @param apiBaseUrl API root, e.g. https://host/api
+     * @param timeout Connect and request timeout
+     */
+    public CartApi(String apiBaseUrl, Duration timeout) {
+        this.apiBaseUrl = apiBaseUrl.replaceAll("/+$", "");
+        this.timeout = timeout;
+        this.httpClient = HttpClient.newBuilder().connectTimeout(timeout).build();
+    }
+
+    /**
+     * Shared client for the shop served at siteUrl (keeps the product catalogue between tests)
+     */
+    public static CartApi forSite(String siteUrl) {
+        return clients.computeIfAbsent(Config.getApiBaseUrl(siteUrl),
+                url -> new CartApi(url, Duration.ofSeconds(Config.getApiTimeout())));
+    }
+
+    /**
+     * Make the user's cart contain exactly the given products
+     * @return false if the API could not be used or a product is unknown (cart state undefined)
+     */
+    public boolean replaceCart(AuthApi.AuthToken auth, List<String> productNames) {
+        long start = System.nanoTime();
+        try {
+            Map<String, Map<?, ?>> products = catalogue(auth);
+            for (String name : productNames) {
+                if (!products.containsKey(name)) {
+                    System.err.println("❌ Cannot seed cart, unknown product: " + name);
+                    failures.increment();
+                    return false;
+                }
+            }
+            removeAll(auth);
+            List<CompletableFuture<Map<?, ?>>> adds = new ArrayList<>();
+            for (String name : productNames) {
+                adds.add(send("POST", "/ecom/user/add-to-cart", auth,
+                        Map.of("_id", auth.getUserId(), "product", products.get(name)), false));
+            }
+            CompletableFuture.allOf(adds.toArray(new CompletableFuture<?>[0])).join();
+            seeded.increment();
+            totalMillis.add((System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (CompletionException | IllegalStateException | JsonException | ClassCastException e) {
+            failures.increment();
+            System.err.println("⚠️ Cart API unavailable at " + apiBaseUrl + " (" + rootMessage(e) + ")");
+            return false;
+        }
+    }
+
+    /**
+     * Remove every product from the user's cart
+     * @return false if the API could not be used
+     */
+    public boolean clearCart(AuthApi.AuthToken auth) {
+        long start = System.nanoTime();
+        try {
+            removeAll(auth);
+            cleared.increment();
+            totalMillis.add((System.nanoTime() - start) / 1_000_000);
+            return true;
+        } catch (CompletionException | IllegalStateException | JsonException | ClassCastException e) {
+            failures.increment();
+            System.err.println("⚠️ Could not empty cart through " + apiBaseUrl + " (" + rootMessage(e) + ")");
+            return false;
+        }
+    }
+
+    /**
+     * Names of the products in the user's cart
+     */
+    public List<String> getCartProductNames(AuthApi.AuthToken auth) {
+        List<String> names = new ArrayList<>();
+        for (Map<?, ?> product : cartProducts(auth)) {
+            names.add(String.valueOf(product.get("productName")));
+        }
+        return names;
+    }
+
+    public static void printStatistics() {
+        long calls = seeded.sum() + cleared.sum();
+        if (calls + failures.sum() > 0) {
+            System.out.println("🛒 Cart API: " + seeded.sum() + " carts seeded, " + cleared.sum() + " emptied (avg "
+                    + (calls == 0 ? 0 : totalMillis.sum() / calls) + "ms, " + requests.sum() + " requests), "
+                    + failures.sum() + " failures");
+        }
+    }
+
+    // ======================
+    // API Calls
+    // ======================
+    private void removeAll(AuthApi.AuthToken auth) {
+        List<CompletableFuture<Map<?, ?>>> removals = new ArrayList<>();
+        for (Map<?, ?> product : cartProducts(auth)) {
+            removals.add(send("DELETE", "/ecom/user/remove-from-cart/" + auth.getUserId() + "/" + product.get("_id"),
+                    auth, null, false));
+        }
+        CompletableFuture.allOf(removals.toArray(new CompletableFuture<?>[0])).join();
+    }
+
+    private List<Map<?, ?>> cartProducts(AuthApi.AuthToken auth) {
+        // An empty cart is reported with a message (and possibly 404) instead of an empty list
+        Map<?, ?> body = send("GET", "/ecom/user/get-cart-products/" + auth.getUserId(), auth, null, true).join();
+        return toMaps(body.get("products"));
+    }
+
+    private Map<String, Map<?, ?>> catalogue(AuthApi.AuthToken auth) {
+        Map<String, Map<?, ?>> products = catalogue;
+        if (products == null) {
+            Map<?, ?> body = send("POST", "/ecom/product/get-all-products", auth, Map.of(), false).join();
+            products = new ConcurrentHashMap<>();
+            for (Map<?, ?> product : toMaps(body.get("data"))) {
+                products.put(String.valueOf(product.get("productName")), product);
+            }
+            if (!products.isEmpty()) {
+                catalogue = products;
+            }
+        }
+        return products;
+    }
+
+    /**
+     * Send a request without waiting for the response
+     * @param emptyWhenNotFound Treat HTTP 404 as an empty result instead of an error
+     */
+    private CompletableFuture<Map<?, ?>> send(String method, String path, AuthApi.AuthToken auth, Object body,
+                                              boolean emptyWhenNotFound) {
+        requests.increment();
+        HttpRequest request = HttpRequest.newBuilder(URI.create(apiBaseUrl + path))
+                .timeout(timeout)
+                .header("Content-Type", "application/json")
+                .header("Authorization", auth.getToken())
+                .method(method, body == null ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(JSON.toJson(body)))
+                .build();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString()).thenApply(response -> {
+            if (response.statusCode() == 404 && emptyWhenNotFound) {
+                return Collections.emptyMap();
+            }
+            if (response.statusCode() >= 300) {
+                throw new IllegalStateException(method + " " + path + " returned HTTP " + response.statusCode());
+            }
+            Map<?, ?> map = JSON.toType(response.body(), Map.class);
+            return map == null ? Collections.emptyMap() : map;
+        });
+    }
+
+    private static List<Map<?, ?>> toMaps(Object list) {
+        List<Map<?, ?>> maps = new ArrayList<>();
+        if (list == null) {
+            return maps;
+        }
+        for (Object item : (List<?>) list) {
+            maps.add((Map<?, ?>) item);
+        }
+        return maps;
+    }
+
+    private static String rootMessage(Throwable e) {
+        Throwable cause = e;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof IOException && cause.getMessage() == null ? cause.toString() : cause.getMessage();
+    }
+}
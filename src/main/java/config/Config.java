@@ -2,6 +2,9 @@ package config;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Properties;
 
 /**
@@ -14,6 +17,7 @@ public class Config {
 
     static {
         loadProperties();
+        applyJdkHttpClientSettings();
     }
 
     /**
@@ -37,6 +41,37 @@ public class Config {
         }
     }
 
+    /**
+     * The JDK HTTP client reads its pool settings once, when the first client in the JVM is built.
+     * Every client the framework builds reads Config first, so they are set here.
+     */
+    private static void applyJdkHttpClientSettings() {
+        if (isJdkHttpClientRunning()) {
+            System.err.println("❌ A JDK HttpClient was built before Config loaded - "
+                    + "grid.http.pool.size and grid.http.keepalive have no effect");
+        }
+        applySystemProperty("jdk.httpclient.connectionPoolSize", String.valueOf(getGridHttpPoolSize()));
+        applySystemProperty("jdk.httpclient.keepalive.timeout", String.valueOf(getGridHttpKeepAlive()));
+    }
+
+    private static void applySystemProperty(String key, String value) {
+        String existing = System.getProperty(key);
+        if (existing == null) {
+            System.setProperty(key, value);
+        } else if (!existing.equals(value)) {
+            System.err.println("❌ " + key + " is already set to " + existing + ", ignoring " + value);
+        }
+    }
+
+    /**
+     * Every live JDK HttpClient owns a selector thread named HttpClient-<id>-SelectorManager
+     */
+    private static boolean isJdkHttpClientRunning() {
+        return Thread.getAllStackTraces().keySet().stream()
+                .anyMatch(thread -> thread.getName().startsWith("HttpClient-")
+                        && thread.getName().endsWith("-SelectorManager"));
+    }
+
     /**
      * Load default properties as fallback
      */
@@ -89,6 +124,88 @@ public class Config {
         return getProperty("grid.url", "http://localhost:4444/wd/hub");
     }
 
+    public static String getBrowserVersion() {
+        return getProperty("browser.version", "");
+    }
+
+    public static boolean isBiDiEnabled() {
+        return Boolean.parseBoolean(getProperty("bidi.enabled", "false"));
+    }
+
+    public static boolean isSharedDriverServiceEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.service.shared", "true"));
+    }
+
+    // ======================
+    // Driver Binaries
+    // ======================
+    public static boolean isDriverCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.cache.enabled", "true"));
+    }
+
+    public static String getDriverCacheFile() {
+        return getProperty("driver.cache.file",
+                System.getProperty("user.home") + "/.cache/selenium-testng-framework/driver-paths.properties");
+    }
+
+    public static boolean isDriverOffline() {
+        return Boolean.parseBoolean(getProperty("driver.offline", "false"));
+    }
+
+    /**
+     * Start local sessions from a copy of a profile warmed by visiting base.url once per run
+     */
+    public static boolean isProfileTemplateEnabled() {
+        return Boolean.parseBoolean(getProperty("profile.template.enabled", "false"));
+    }
+
+    // ======================
+    // Grid HTTP Transport
+    // ======================
+    public static int getGridHttpPoolSize() {
+        return Integer.parseInt(getProperty("grid.http.pool.size", "20"));
+    }
+
+    public static int getGridHttpKeepAlive() {
+        return Integer.parseInt(getProperty("grid.http.keepalive", "300"));
+    }
+
+    public static int getGridHttpConnectTimeout() {
+        return Integer.parseInt(getProperty("grid.http.connect.timeout", "10"));
+    }
+
+    public static int getGridHttpReadTimeout() {
+        return Integer.parseInt(getProperty("grid.http.read.timeout", "180"));
+    }
+
+    public static boolean isGridHttp2Enabled() {
+        return Boolean.parseBoolean(getProperty("grid.http.http2", "false"));
+    }
+
+    // ======================
+    // Grid Admission Control
+    // ======================
+    public static boolean isGridAdmissionEnabled() {
+        return Boolean.parseBoolean(getProperty("grid.admission.enabled", "true"));
+    }
+
+    public static String getGridStatusUrl() {
+        String gridUrl = getGridUrl().replaceAll("/+$", "");
+        return getProperty("grid.status.url", gridUrl + "/status");
+    }
+
+    public static long getGridStatusPollInterval() {
+        return Long.parseLong(getProperty("grid.status.poll", "1000"));
+    }
+
+    public static long getGridSessionStagger() {
+        return Long.parseLong(getProperty("grid.session.stagger", "500"));
+    }
+
+    public static int getGridAdmissionTimeout() {
+        return Integer.parseInt(getProperty("grid.admission.timeout", "300"));
+    }
+
     // ======================
     // Application URLs
     // ======================
@@ -96,17 +213,74 @@ public class Config {
         return getProperty("base.url", "https://example.com");
     }
 
-    public static String getApiBaseUrl() {
-        return getProperty("api.base.url", getBaseUrl() + "/api");
+    /**
+     * API root of the application served at siteUrl: api.base.url, or /api on the site's own origin
+     * (never derived from base.url, which may point at a different host)
+     */
+    public static String getApiBaseUrl(String siteUrl) {
+        String configured = getProperty("api.base.url", "");
+        if (!configured.isEmpty()) {
+            return configured;
+        }
+        URI site = URI.create(siteUrl);
+        return site.getScheme() + "://" + site.getRawAuthority() + "/api";
+    }
+
+    /**
+     * Log in through the application's login API and inject the token (falls back to the login page)
+     */
+    public static boolean isApiLoginEnabled() {
+        return Boolean.parseBoolean(getProperty("login.api", "true"));
+    }
+
+    /**
+     * Reuse a user's captured cookies and web storage instead of logging in again
+     */
+    public static boolean isSessionCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("session.cache", "true"));
+    }
+
+    /**
+     * Lightweight same-origin document loaded to write cookies and storage before opening the application
+     * Must be a document (text, HTML or a 404 page): an image may be blocked by the network profile,
+     * and a failed load leaves an opaque origin without storage.
+     */
+    public static String getSessionBootstrapPath() {
+        return getProperty("session.bootstrap.path", "/robots.txt");
+    }
+
+    /**
+     * Defer the base URL load in BaseTest.setUp until a test first needs a page
+     */
+    public static boolean isLazyNavigationEnabled() {
+        return Boolean.parseBoolean(getProperty("navigation.lazy", "true"));
     }
 
     // ======================
     // Timeouts
     // ======================
+    public static int getApiTimeout() {
+        return Integer.parseInt(getProperty("timeout.api", "10"));
+    }
+
+    /**
+     * Seconds a test waits for another test that has seeded the same user's cart to finish
+     */
+    public static int getCartSeedTimeout() {
+        return Integer.parseInt(getProperty("timeout.cart.seed", "300"));
+    }
+
     public static int getImplicitTimeout() {
         return Integer.parseInt(getProperty("timeout.implicit", "10"));
     }
 
+    /**
+     * Run with implicit wait 0; BaseComponent waits per locator instead (timeout.implicit is the budget)
+     */
+    public static boolean isZeroImplicitWait() {
+        return Boolean.parseBoolean(getProperty("wait.implicit.zero", "false"));
+    }
+
     public static int getExplicitTimeout() {
         return Integer.parseInt(getProperty("timeout.explicit", "15"));
     }
@@ -115,6 +289,60 @@ public class Config {
         return Integer.parseInt(getProperty("timeout.pageload", "30"));
     }
 
+    public static int getScriptTimeout() {
+        return Integer.parseInt(getProperty("timeout.script", "30"));
+    }
+
+    /**
+     * First poll interval of explicit waits (ms); grows by wait.poll.backoff up to wait.poll.max
+     */
+    public static long getWaitPollInitial() {
+        return Long.parseLong(getProperty("wait.poll.initial", "25"));
+    }
+
+    public static long getWaitPollMax() {
+        return Long.parseLong(getProperty("wait.poll.max", "500"));
+    }
+
+    public static double getWaitPollBackoff() {
+        return Double.parseDouble(getProperty("wait.poll.backoff", "1.5"));
+    }
+
+    /**
+     * DOM wait backend: observer (MutationObserver in the page, falls back to polling) or polling
+     */
+    public static String getWaitBackend() {
+        return getProperty("wait.backend", "observer").toLowerCase();
+    }
+
+    /**
+     * Check actionability (visible, enabled, stable, not obscured) in one script before click/type
+     */
+    public static boolean isSmartActionsEnabled() {
+        return Boolean.parseBoolean(getProperty("action.smart", "true"));
+    }
+
+    /**
+     * Wait for Angular stability after every BaseComponent click/type
+     */
+    public static boolean isAngularAutoWait() {
+        return Boolean.parseBoolean(getProperty("wait.angular.auto", "false"));
+    }
+
+    /**
+     * Reuse located @FindBy elements until they go stale or the page navigates
+     */
+    public static boolean isElementCacheEnabled() {
+        return Boolean.parseBoolean(getProperty("element.cache", "true"));
+    }
+
+    /**
+     * Default BaseComponent.type strategy for fields without @InputMode: native, fast_fill or hybrid
+     */
+    public static String getInputStrategy() {
+        return getProperty("input.strategy", "native").toUpperCase();
+    }
+
     // ======================
     // Database Configuration
     // ======================
@@ -141,9 +369,106 @@ public class Config {
         return getProperty("parallel", "none");
     }
 
+    // ======================
+    // Driver Pool
+    // ======================
+    public static boolean isDriverPoolEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.pool.enabled", "false"));
+    }
+
+    public static int getDriverPoolMinSize() {
+        return Integer.parseInt(getProperty("driver.pool.min", "0"));
+    }
+
+    public static int getDriverPoolMaxSize() {
+        return Integer.parseInt(getProperty("driver.pool.max", String.valueOf(getThreadCount())));
+    }
+
+    public static int getDriverPoolMaxUses() {
+        return Integer.parseInt(getProperty("driver.pool.max.uses", "25"));
+    }
+
+    public static int getDriverPoolLeaseTimeout() {
+        return Integer.parseInt(getProperty("driver.pool.lease.timeout", "120"));
+    }
+
+    public static boolean isDriverPrewarmEnabled() {
+        return Boolean.parseBoolean(getProperty("driver.prewarm", "false"));
+    }
+
+    // ======================
+    // Browser Contexts
+    // ======================
+    /**
+     * TestNG groups whose tests run in an isolated BiDi user context of a shared browser
+     * ("*" opts in every UI test)
+     */
+    public static List<String> getBrowserContextGroups() {
+        return splitList(getProperty("browser.context.groups", ""));
+    }
+
+    // ======================
+    // Network Blocking
+    // ======================
+    /**
+     * Request blocking profiles: images, media, fonts, trackers, lite (all four) or none
+     */
+    public static List<String> getNetworkBlockProfiles() {
+        return splitList(getProperty("network.block.profile", "none").toLowerCase());
+    }
+
+    /**
+     * URL glob patterns (* wildcard) that are always blocked
+     */
+    public static List<String> getNetworkBlockUrls() {
+        return splitList(getProperty("network.block.urls", ""));
+    }
+
+    // ======================
+    // Network Idle
+    // ======================
+    /**
+     * Wait for network idle (BiDi network events) after page loads; turns BiDi on
+     */
+    public static boolean isNetworkIdleEnabled() {
+        return Boolean.parseBoolean(getProperty("network.idle.enabled", "false"));
+    }
+
+    /**
+     * Milliseconds without any request in flight before the network counts as idle
+     */
+    public static long getNetworkIdleQuiet() {
+        return Long.parseLong(getProperty("network.idle.quiet", "500"));
+    }
+
+    /**
+     * Also wait for network idle after every BaseComponent click/type
+     */
+    public static boolean isNetworkIdleAfterAction() {
+        return Boolean.parseBoolean(getProperty("network.idle.after.action", "false"));
+    }
+
+    public static long getNetworkIdleTimeout() {
+        return Long.parseLong(getProperty("network.idle.timeout", String.valueOf(getExplicitTimeout() * 1000L)));
+    }
+
+    /**
+     * URL glob patterns never waited for (long-polling, analytics beacons, websockets)
+     */
+    public static List<String> getNetworkIdleIgnoreUrls() {
+        return splitList(getProperty("network.idle.ignore", ""));
+    }
+
     // ======================
     // Utility Methods
     // ======================
+    private static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
     public static void printConfiguration() {
         System.out.println("\n=== Test Configuration ===");
         System.out.println("Environment: " + System.getProperty("env", "local"));
@@ -151,8 +476,16 @@ public class Config {
         System.out.println("Execution: " + getExecution());
         System.out.println("Headless: " + isHeadless());
         System.out.println("Base URL: " + getBaseUrl());
+        System.out.println("Lazy Navigation: " + isLazyNavigationEnabled());
+        System.out.println("API Login: " + isApiLoginEnabled() + " ("
+                + getProperty("api.base.url", "application origin + /api") + ")");
+        System.out.println("Session Cache: " + isSessionCacheEnabled());
         System.out.println("Grid URL: " + getGridUrl());
         System.out.println("Thread Count: " + getThreadCount());
+        System.out.println("Driver Pool: " + isDriverPoolEnabled());
+        System.out.println("Driver Pre-warm: " + isDriverPrewarmEnabled());
+        System.out.println("Profile Template: " + isProfileTemplateEnabled());
+        System.out.println("Network Blocking: " + getNetworkBlockProfiles());
         System.out.println("==========================\n");
     }
 }
\ No newline at end of file
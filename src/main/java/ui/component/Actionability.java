@@ -0,0 +1,180 @@
+package ui.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Playwright-style auto-waiting before click and type
+ * One async script resolves the element and re-checks it every ~16 ms until it is attached,
+ * visible, enabled, (editable,) in view, stable and not covered by another element.
+ * The action itself is then a single native WebDriver command.
+ */
+public class Actionability {
+
+    /** Reason given when the element was never found in the page */
+    public static final String NOT_ATTACHED = "not attached";
+
+    // Stay below the default 30 s script timeout
+    private static final long MAX_CALL_MILLIS = 20_000;
+    private static final Set<String> SUPPORTED_LOCATORS = Set.of("css selector", "xpath", "tag name");
+
+    private static final String SCRIPT = String.join("\n",
+            "var target = arguments[0], using = arguments[1], value = arguments[2], editable = arguments[3],",
+            "    timeout = arguments[4], done = arguments[arguments.length - 1];",
+            "var start = Date.now(), lastRect = null, attempts = 0;",
+            "function resolve() {",
+            "  if (target) return target;",
+            "  if (using === 'xpath') {",
+            "    return document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;",
+            "  }",
+            "  return document.querySelector(value);",
+            "}",
+            "function describe(el) {",
+            "  return el.tagName.toLowerCase() + (el.id ? '#' + el.id : '')",
+            "      + (typeof el.className === 'string' && el.className ? '.' + el.className.trim().split(/\\s+/).join('.') : '');",
+            "}",
+            "function check(el) {",
+            "  if (!el || !el.isConnected) return '" + NOT_ATTACHED + "';",
+            "  var style = window.getComputedStyle(el), rect = el.getBoundingClientRect();",
+            "  if (style.visibility === 'hidden' || style.display === 'none' || !rect.width || !rect.height) return 'not visible';",
+            "  if (el.disabled || el.getAttribute('aria-disabled') === 'true') return 'disabled';",
+            "  if (editable && (el.readOnly || !(el.isContentEditable || /^(INPUT|TEXTAREA|SELECT)$/.test(el.tagName)))) {",
+            "    return 'not editable';",
+            "  }",
+            "  var x = rect.left + rect.width / 2, y = rect.top + rect.height / 2;",
+            "  if (x < 0 || y < 0 || x > window.innerWidth || y > window.innerHeight) {",
+            "    el.scrollIntoView({block: 'center', inline: 'center'});",
+            "    lastRect = null;",
+            "    return 'out of view';",
+            "  }",
+            "  var key = [rect.left, rect.top, rect.width, rect.height].join();",
+            "  if (key !== lastRect) { lastRect = key; return 'not stable'; }",
+            "  var hit = document.elementFromPoint(x, y);",
+            "  if (hit && hit !== el && !el.contains(hit)) return 'obscured by ' + describe(hit);",
+            "  return null;",
+            "}",
+            "function attempt() {",
+            "  attempts++;",
+            "  var el = resolve(), reason = check(el);",
+            "  if (!reason) {",
+            "    done({element: el, attempts: attempts});",
+            "  } else if (Date.now() - start >= timeout) {",
+            "    done({reason: reason, attempts: attempts});",
+            "  } else {",
+            "    setTimeout(attempt, 16);",
+            "  }",
+            "}",
+            "attempt();");
+
+    private static final LongAdder actions = new LongAdder();
+    private static final LongAdder retried = new LongAdder();
+    private static final LongAdder fallbacks = new LongAdder();
+    private static final LongAdder roundTripsSaved = new LongAdder();
+
+    private Actionability() {
+    }
+
+    /**
+     * Wait until an element can receive a click or keystrokes
+     * @param locator Locator to resolve in the page (ignored when element is given)
+     * @param element Already resolved element, or null
+     * @param editable Also require an editable (form) field
+     * @return Result; not actionable (and counted as a fallback) if the script cannot run
+     */
+    public static Result await(WebDriver driver, By locator, WebElement element, boolean editable, Duration timeout) {
+        String using = null;
+        String value = null;
+        if (element == null) {
+            if (!(locator instanceof By.Remotable)) {
+                return fallback("unsupported locator");
+            }
+            By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+            if (!SUPPORTED_LOCATORS.contains(parameters.using())) {
+                return fallback("unsupported locator");
+            }
+            using = parameters.using();
+            value = String.valueOf(parameters.value());
+        }
+        if (!(driver instanceof JavascriptExecutor)) {
+            return fallback("no script support");
+        }
+
+        try {
+            Object raw = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, element, using, value, editable,
+                    Math.min(timeout.toMillis(), MAX_CALL_MILLIS));
+            Map<?, ?> outcome = (Map<?, ?>) raw;
+            long attempts = ((Number) outcome.get("attempts")).longValue();
+            if (attempts > 2) {
+                retried.increment();
+            }
+            if (outcome.get("element") instanceof WebElement) {
+                actions.increment();
+                // Versus separate find (unless resolved already), isDisplayed, isEnabled and getRect commands
+                roundTripsSaved.add((element == null ? 1 : 0) + 3 - 1);
+                return new Result((WebElement) outcome.get("element"), null, true);
+            }
+            fallbacks.increment();
+            return new Result(null, String.valueOf(outcome.get("reason")), true);
+        } catch (WebDriverException | ClassCastException e) {
+            return fallback(e.getMessage());
+        }
+    }
+
+    public static void printStatistics() {
+        long count = actions.sum();
+        if (count > 0 || fallbacks.sum() > 0) {
+            System.out.println("🎯 Actionability checks: " + count + " actions (" + retried.sum()
+                    + " waited), " + fallbacks.sum() + " fallbacks, ~" + roundTripsSaved.sum() + " round trips saved");
+        }
+    }
+
+    private static Result fallback(String reason) {
+        fallbacks.increment();
+        return new Result(null, reason, false);
+    }
+
+    /**
+     * Outcome of an actionability check
+     */
+    public static final class Result {
+        private final WebElement element;
+        private final String reason;
+        private final boolean checked;
+
+        private Result(WebElement element, String reason, boolean checked) {
+            this.element = element;
+            this.reason = reason;
+            this.checked = checked;
+        }
+
+        public boolean isActionable() {
+            return element != null;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+
+        /**
+         * Whether the in-page check ran (and waited), rather than not being possible at all
+         */
+        public boolean wasChecked() {
+            return checked;
+        }
+
+        /**
+         * Why the element was not actionable when the check gave up
+         */
+        public String getReason() {
+            return reason;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package ui.component;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Waits until Angular reports itself stable through its testability API
+ * (no pending HTTP requests, macrotasks or change detection) - one async script per wait.
+ */
+public class AngularWait {
+
+    // Stay below the default 30 s script timeout
+    private static final long MAX_CALL_MILLIS = 20_000;
+
+    private static final String SCRIPT = String.join("\n",
+            "var timeout = arguments[0], done = arguments[arguments.length - 1];",
+            "try {",
+            "  if (typeof window.getAllAngularTestabilities !== 'function') { done('no-angular'); return; }",
+            "  var testabilities = window.getAllAngularTestabilities();",
+            "  if (!testabilities.length) { done('no-angular'); return; }",
+            "  var pending = testabilities.length;",
+            "  var timer = setTimeout(function () { done('busy'); }, timeout);",
+            "  testabilities.forEach(function (testability) {",
+            "    testability.whenStable(function () {",
+            "      if (--pending === 0) { clearTimeout(timer); done('stable'); }",
+            "    });",
+            "  });",
+            "} catch (e) {",
+            "  done('error: ' + e.message);",
+            "}");
+
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder totalNanos = new LongAdder();
+
+    private AngularWait() {
+    }
+
+    /**
+     * Wait for every Angular root on the page to become stable
+     * @return false if the page is not an Angular app (or the check could not run), true once stable
+     * @throws TimeoutException if Angular is still busy after the timeout
+     */
+    public static boolean waitUntilStable(WebDriver driver, Duration timeout) {
+        if (!(driver instanceof JavascriptExecutor)) {
+            return false;
+        }
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        try {
+            while (true) {
+                long remaining = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+                Object state = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT,
+                        Math.min(remaining, MAX_CALL_MILLIS));
+                if ("stable".equals(state)) {
+                    waits.increment();
+                    totalNanos.add(System.nanoTime() - start);
+                    return true;
+                }
+                if (!"busy".equals(state)) {
+                    return false;
+                }
+                if (System.nanoTime() >= deadline) {
+                    throw new TimeoutException("Angular did not become stable within " + timeout.toMillis() + "ms");
+                }
+            }
+        } catch (TimeoutException e) {
+            throw e;
+        } catch (WebDriverException e) {
+            // e.g. a navigation discarded the script; the new page has not bootstrapped yet
+            return false;
+        }
+    }
+
+    public static void printStatistics() {
+        long count = waits.sum();
+        if (count > 0) {
+            System.out.println("🅰️ Angular stability waits: " + count + ", avg "
+                    + totalNanos.sum() / count / 1_000_000 + "ms");
+        }
+    }
+}
@@ -1,45 +1,141 @@
 package ui.component;
 
+import config.Config;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.openqa.selenium.*;
-import org.openqa.selenium.support.PageFactory;
 import org.openqa.selenium.support.ui.ExpectedConditions;
-import org.openqa.selenium.support.ui.WebDriverWait;
+import ui.driver.LazyNavigation;
+import ui.driver.NetworkIdleMonitor;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 
 public abstract class BaseComponent {
     private static final Logger logger = LogManager.getLogger(BaseComponent.class);
     protected WebDriver driver;
     protected int timeOut = 5;
+    private final Map<By, WaitStrategy> waitStrategies = new HashMap<>();
+    // @InputMode field value (WebElement proxy or By) -> strategy, read on first type()
+    private Map<Object, InputStrategy> inputModes;
 
     public BaseComponent(WebDriver driver) {
         this.driver = driver;
-        PageFactory.initElements(driver, this); // Add this for @FindBy support
+        // @FindBy support; without an implicit wait the proxies wait for their elements themselves
+        PageBindings.bind(this, driver, Config.isZeroImplicitWait() ? Config.getImplicitTimeout() : 0,
+                Config.isElementCacheEnabled() ? new CachingElementLocatorFactory(driver, getClass().getSimpleName()) : null);
         logger.info("BaseComponent initialized for: {}", this.getClass().getSimpleName());
     }
 
     // Navigation
     public void navigateTo(String url) {
         logger.info("Navigating to: {}", url);
+        LazyNavigation.cancel(driver);
         driver.get(url);
+        CachingElementLocatorFactory.invalidate(driver);
     }
 
     public String getCurrentUrl() {
+        LazyNavigation.ensureNavigated(driver);
         return driver.getCurrentUrl();
     }
 
     public String getTitle() {
+        LazyNavigation.ensureNavigated(driver);
         String title = driver.getTitle();
         logger.info("Page title retrieved: {}", title);
         return title;
     }
 
+    // Wait strategies (used when running with wait.implicit.zero)
+    /**
+     * Declare how a locator is waited for before it is used
+     * Locators without a declaration are waited for by PRESENCE.
+     */
+    protected void declareWait(By locator, WaitStrategy strategy) {
+        waitStrategies.put(locator, strategy);
+    }
+
+    protected WaitStrategy waitStrategyFor(By locator) {
+        return waitStrategies.getOrDefault(locator, WaitStrategy.PRESENCE);
+    }
+
+    /**
+     * Wait for a locator according to its declared strategy
+     */
+    public void waitFor(By locator) {
+        waitFor(locator, waitStrategyFor(locator), Duration.ofSeconds(timeOut));
+    }
+
+    private void waitFor(By locator, WaitStrategy strategy, Duration timeout) {
+        logger.debug("Waiting for {} ({})", locator, strategy);
+        LazyNavigation.ensureNavigated(driver);
+        switch (strategy) {
+            case PRESENCE -> waitEngine().until(ExpectedConditions.presenceOfElementLocated(locator), timeout);
+            case VISIBILITY -> awaitDom(locator, MutationWait.Condition.appear(),
+                    ExpectedConditions.visibilityOfElementLocated(locator), timeout);
+            case CLICKABLE -> waitEngine().until(ExpectedConditions.elementToBeClickable(locator), timeout);
+            case ABSENT -> awaitDom(locator, MutationWait.Condition.disappear(),
+                    d -> lookupNow(locator).stream().noneMatch(this::isDisplayed), timeout);
+            case NONE -> {
+            }
+        }
+    }
+
+    /**
+     * Wait for a DOM condition in the browser (wait.backend=observer), polling where that is unavailable
+     * @param fallback Equivalent condition evaluated by the polling wait engine
+     */
+    private void awaitDom(By locator, MutationWait.Condition condition,
+                          Function<? super WebDriver, ?> fallback, Duration timeout) {
+        LazyNavigation.ensureNavigated(driver);
+        long start = System.nanoTime();
+        if ("observer".equals(Config.getWaitBackend())) {
+            MutationWait.Outcome outcome = MutationWait.await(driver, locator, condition, timeout);
+            if (outcome == MutationWait.Outcome.MET) {
+                return;
+            }
+            if (outcome == MutationWait.Outcome.TIMED_OUT) {
+                throw new TimeoutException("Expected condition failed: waiting for " + condition + " of " + locator
+                        + " (observed for " + timeout.toMillis() + "ms)");
+            }
+            logger.debug("MutationObserver unavailable for {}, polling instead", locator);
+        }
+        Duration remaining = timeout.minusNanos(System.nanoTime() - start);
+        try {
+            waitEngine().until(fallback, remaining.isNegative() ? Duration.ZERO : remaining);
+        } finally {
+            WaitEngine.WaitResult result = waitEngine().getLastWait();
+            if (result != null) {
+                MutationWait.recordPolling(System.nanoTime() - start, result.getPolls());
+            }
+        }
+    }
+
+    /**
+     * Immediate lookup; an empty result in zero-implicit-wait mode counts towards WaitSavings
+     */
+    private List<WebElement> lookupNow(By locator) {
+        LazyNavigation.ensureNavigated(driver);
+        long start = System.nanoTime();
+        List<WebElement> elements = driver.findElements(locator);
+        if (elements.isEmpty() && Config.isZeroImplicitWait()) {
+            WaitSavings.recordMiss((System.nanoTime() - start) / 1_000_000);
+        }
+        return elements;
+    }
+
     // Element finding
     public WebElement find(By locator) {
         logger.debug("Finding element by locator: {}", locator);
+        LazyNavigation.ensureNavigated(driver);
         try {
+            if (Config.isZeroImplicitWait()) {
+                waitFor(locator, waitStrategyFor(locator), Duration.ofSeconds(Config.getImplicitTimeout()));
+            }
             WebElement element = driver.findElement(locator);
             logger.debug("Element found: {}", locator);
             return element;
@@ -49,28 +145,113 @@ public abstract class BaseComponent {
         }
     }
 
+    public List<WebElement> findAll(By locator) {
+        logger.debug("Finding elements by locator: {}", locator);
+        LazyNavigation.ensureNavigated(driver);
+        if (Config.isZeroImplicitWait()) {
+            waitFor(locator, waitStrategyFor(locator), Duration.ofSeconds(Config.getImplicitTimeout()));
+        }
+        return driver.findElements(locator);
+    }
+
+    /**
+     * Negative-safe check: returns immediately when running without an implicit wait
+     */
+    public boolean isPresent(By locator) {
+        return !lookupNow(locator).isEmpty();
+    }
+
     // Actions
     public void click(By locator) {
         logger.info("Clicking element: {}", locator);
-        find(locator).click();
+        actionable(locator, null, false).click();
+        afterAction();
     }
 
     public void click(WebElement element) {
         logger.info("Clicking element: {}", element);
-        element.click();
+        actionable(null, element, false).click();
+        afterAction();
     }
 
     public void type(By locator, String text) {
         logger.info("Typing '{}' into element: {}", text, locator);
-        WebElement element = find(locator);
-        element.clear();
-        element.sendKeys(text);
+        WebElement element = actionable(locator, null, true);
+        InputFiller.fill(driver, element, text, inputStrategyFor(locator));
+        afterAction();
     }
 
     public void type(WebElement element, String text) {
         logger.info("Typing text into element: {}", element);
-        element.clear();
-        element.sendKeys(text);
+        WebElement target = actionable(null, element, true);
+        InputFiller.fill(driver, target, text, inputStrategyFor(element));
+        afterAction();
+    }
+
+    /**
+     * Strategy from the field's @InputMode, or input.strategy
+     * @param field The page object's own WebElement or By field value
+     */
+    protected InputStrategy inputStrategyFor(Object field) {
+        if (inputModes == null) {
+            // Not done in the constructor: subclass fields are only assigned after super() returns
+            inputModes = PageBindings.inputModes(this);
+        }
+        InputStrategy strategy = inputModes.get(field);
+        if (strategy != null) {
+            return strategy;
+        }
+        try {
+            return InputStrategy.valueOf(Config.getInputStrategy());
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown input.strategy '{}', typing natively", Config.getInputStrategy());
+            return InputStrategy.NATIVE;
+        }
+    }
+
+    /**
+     * Element ready for a click or keystrokes (action.smart: checked in one script round trip)
+     * If the check cannot run or gives up, the element is returned as is and the native
+     * command reports the precise WebDriver error. A check that gave up has used the wait budget,
+     * so the element is then looked up without waiting again.
+     */
+    private WebElement actionable(By locator, WebElement element, boolean editable) {
+        LazyNavigation.ensureNavigated(driver);
+        if (!Config.isSmartActionsEnabled()) {
+            return element != null ? element : find(locator);
+        }
+        long deadline = System.nanoTime() + Duration.ofSeconds(timeOut).toNanos();
+        Actionability.Result result = Actionability.await(driver, locator, element, editable,
+                Duration.ofSeconds(timeOut));
+        if (result.isActionable()) {
+            return result.getElement();
+        }
+        logger.warn("Element {} not actionable ({}), trying anyway", locator != null ? locator : element,
+                result.getReason());
+        if (element != null) {
+            return element;
+        }
+        if (!result.wasChecked()) {
+            return find(locator);
+        }
+        if (Actionability.NOT_ATTACHED.equals(result.getReason())) {
+            // A single script call is capped below the budget - wait out only what is left of it
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0) {
+                throw new NoSuchElementException("Element not attached after " + timeOut + "s: " + locator);
+            }
+            waitFor(locator, waitStrategyFor(locator), Duration.ofNanos(remainingNanos));
+        }
+        return driver.findElement(locator);
+    }
+
+    private void afterAction() {
+        if (Config.isAngularAutoWait()) {
+            waitForAngular();
+        }
+        if (Config.isNetworkIdleAfterAction()) {
+            waitForNetworkIdle();
+        }
     }
 
     public String getText(By locator) {
@@ -86,16 +267,51 @@ public abstract class BaseComponent {
         return text;
     }
 
+    // Batched reads (one script call for all matching elements)
+    /**
+     * Text, visibility, bounding box and the given attributes of every element matching a locator
+     * Waits like findElements (implicit wait / declared strategy) only when nothing matches yet.
+     */
+    public List<BatchReader.ElementSnapshot> readAll(By locator, String... attributes) {
+        return readAllWithin(locator, null, attributes);
+    }
+
+    public List<BatchReader.ElementSnapshot> readAll(List<WebElement> elements, String... attributes) {
+        return BatchReader.read(driver, elements, null, attributes);
+    }
+
+    /**
+     * Like readAll, but each snapshot's text comes from the element's first child matching childSelector (CSS)
+     */
+    public List<BatchReader.ElementSnapshot> readAllWithin(By locator, String childSelector, String... attributes) {
+        logger.debug("Batch reading elements: {}", locator);
+        LazyNavigation.ensureNavigated(driver);
+        List<BatchReader.ElementSnapshot> snapshots = BatchReader.read(driver, locator, childSelector, attributes);
+        if (snapshots == null || snapshots.isEmpty()) {
+            // Unsupported locator, or the elements are not rendered yet - let the usual lookup wait for them
+            snapshots = BatchReader.read(driver, findAll(locator), childSelector, attributes);
+        }
+        return snapshots;
+    }
+
+    public List<String> getTexts(By locator) {
+        return readAll(locator).stream().map(BatchReader.ElementSnapshot::getText).toList();
+    }
+
+    public List<String> getTexts(List<WebElement> elements) {
+        return readAll(elements).stream().map(BatchReader.ElementSnapshot::getText).toList();
+    }
+
     public boolean isDisplayed(By locator) {
         logger.debug("Checking if element is displayed: {}", locator);
-        try {
-            boolean displayed = find(locator).isDisplayed();
-            logger.debug("Element displayed: {} - {}", locator, displayed);
-            return displayed;
-        } catch (NoSuchElementException e) {
+        List<WebElement> elements = lookupNow(locator);
+        if (elements.isEmpty()) {
             logger.warn("Element not found for display check: {}", locator);
             return false;
         }
+        boolean displayed = isDisplayed(elements.get(0));
+        logger.debug("Element displayed: {} - {}", locator, displayed);
+        return displayed;
     }
 
     public boolean isDisplayed(WebElement element) {
@@ -108,39 +324,73 @@ public abstract class BaseComponent {
     }
 
     // Wait methods
+    protected WaitEngine waitEngine() {
+        return WaitEngine.forDriver(driver);
+    }
+
     public void waitForElementToAppear(By locator) {
         logger.info("Waiting for element to appear: {}", locator);
-        new WebDriverWait(driver, Duration.ofSeconds(timeOut))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        waitFor(locator, WaitStrategy.VISIBILITY, Duration.ofSeconds(timeOut));
         logger.debug("Element appeared: {}", locator);
     }
 
     public void waitForElementToAppear(WebElement ele) {
         logger.info("Waiting for element to appear");
-        new WebDriverWait(driver, Duration.ofSeconds(timeOut))
-                .until(ExpectedConditions.visibilityOf(ele));
+        waitEngine().until(ExpectedConditions.visibilityOf(ele), Duration.ofSeconds(timeOut));
     }
     public void waitForElementToAppear(WebElement ele, int timeOut) {
         logger.info("Waiting for element to appear");
-        new WebDriverWait(driver, Duration.ofSeconds(timeOut))
-                .until(ExpectedConditions.visibilityOf(ele));
+        waitEngine().until(ExpectedConditions.visibilityOf(ele), Duration.ofSeconds(timeOut));
     }
     public void waitForElementToAppear(By locator, int timeout) {
         logger.info("Waiting for element to appear: {} with timeout: {}s", locator, timeout);
-        new WebDriverWait(driver, Duration.ofSeconds(timeout))
-                .until(ExpectedConditions.visibilityOfElementLocated(locator));
+        waitFor(locator, WaitStrategy.VISIBILITY, Duration.ofSeconds(timeout));
+    }
+
+    /**
+     * Wait until Angular has no pending HTTP requests or macrotasks
+     * @return false when the page is not an Angular app, so callers can fall back to element waits
+     * @throws TimeoutException if Angular is still busy after the explicit timeout
+     */
+    public boolean waitForAngular() {
+        LazyNavigation.ensureNavigated(driver);
+        long start = System.nanoTime();
+        boolean angular = AngularWait.waitUntilStable(driver, Duration.ofSeconds(timeOut));
+        logger.debug("Angular {} after {}ms", angular ? "stable" : "not detected", (System.nanoTime() - start) / 1_000_000);
+        return angular;
+    }
+
+    /**
+     * Wait until no request has been in flight for network.idle.quiet ms (needs network.idle.enabled)
+     * @return Milliseconds waited
+     */
+    public long waitForNetworkIdle() {
+        LazyNavigation.ensureNavigated(driver);
+        long waited = NetworkIdleMonitor.waitForIdle(driver);
+        logger.debug("Network idle after {}ms", waited);
+        return waited;
+    }
+
+    public void waitForText(By locator, String text) {
+        logger.info("Waiting for text '{}' in element: {}", text, locator);
+        awaitDom(locator, MutationWait.Condition.textContains(text),
+                ExpectedConditions.textToBePresentInElementLocated(locator, text), Duration.ofSeconds(timeOut));
+    }
+
+    public void waitForAttribute(By locator, String attribute, String value) {
+        logger.info("Waiting for {}='{}' on element: {}", attribute, value, locator);
+        awaitDom(locator, MutationWait.Condition.attributeEquals(attribute, value),
+                ExpectedConditions.attributeToBe(locator, attribute, value), Duration.ofSeconds(timeOut));
     }
 
     public void waitForElementToDisappear(By findBy) {
         logger.info("Waiting for element to disappear: {}", findBy);
-        new WebDriverWait(driver, Duration.ofSeconds(timeOut))
-                .until(ExpectedConditions.invisibilityOfElementLocated(findBy));
+        waitFor(findBy, WaitStrategy.ABSENT, Duration.ofSeconds(timeOut));
         logger.debug("Element disappeared: {}", findBy);
     }
 
     public void waitForElementToDisappear(WebElement ele) {
         logger.info("Waiting for element to disappear");
-        new WebDriverWait(driver, Duration.ofSeconds(timeOut))
-                .until(ExpectedConditions.invisibilityOf(ele));
+        waitEngine().until(ExpectedConditions.invisibilityOf(ele), Duration.ofSeconds(timeOut));
     }
 }
\ No newline at end of file
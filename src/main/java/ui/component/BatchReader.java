@@ -0,0 +1,150 @@
+package ui.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.Rectangle;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Reads text, visibility, bounding box and attributes of many elements in one executeScript call
+ */
+public class BatchReader {
+
+    private static final Set<String> SUPPORTED_LOCATORS = Set.of("css selector", "xpath", "tag name");
+
+    private static final PinnedScript READ = new PinnedScript("batchRead", String.join("\n",
+            "var els = arguments[0], using = arguments[1], value = arguments[2], attributes = arguments[3] || [],",
+            "    childSelector = arguments[4];",
+            "if (!els) {",
+            "  if (using === 'xpath') {",
+            "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+            "    els = [];",
+            "    for (var i = 0; i < snapshot.snapshotLength; i++) els.push(snapshot.snapshotItem(i));",
+            "  } else {",
+            "    els = Array.prototype.slice.call(document.querySelectorAll(value));",
+            "  }",
+            "}",
+            "function visible(el) {",
+            "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;",
+            "  var style = window.getComputedStyle(el);",
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';",
+            "}",
+            "return els.map(function (el) {",
+            "  var source = childSelector ? el.querySelector(childSelector) : el;",
+            "  var shown = !!source && visible(source);",
+            "  var rect = el.getBoundingClientRect();",
+            "  var values = {};",
+            "  attributes.forEach(function (name) { values[name] = el.getAttribute(name); });",
+            "  return {",
+            "    element: el,",
+            "    // Like WebElement.getText(): rendered text with collapsed spaces, empty when hidden",
+            "    text: shown ? (source.innerText || '').replace(/[ \\t\\u00a0]+/g, ' ').replace(/ *\\n */g, '\\n').trim() : '',",
+            "    displayed: visible(el),",
+            "    x: Math.round(rect.left + window.scrollX), y: Math.round(rect.top + window.scrollY),",
+            "    width: Math.round(rect.width), height: Math.round(rect.height),",
+            "    attributes: values",
+            "  };",
+            "});"));
+
+    private BatchReader() {
+    }
+
+    /**
+     * Read all elements matching a locator, resolved inside the page
+     * @param childSelector Optional CSS selector; text is read from each element's first matching child
+     * @param attributes Attribute names to read from each element
+     * @return Snapshots in document order; null if the locator type cannot be resolved in the page
+     */
+    public static List<ElementSnapshot> read(WebDriver driver, By locator, String childSelector, String... attributes) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!SUPPORTED_LOCATORS.contains(parameters.using())) {
+            return null;
+        }
+        String using = "tag name".equals(parameters.using()) ? "css selector" : parameters.using();
+        return toSnapshots(READ.execute(driver, null, using, String.valueOf(parameters.value()),
+                List.of(attributes), childSelector));
+    }
+
+    /**
+     * Read already located elements
+     */
+    public static List<ElementSnapshot> read(WebDriver driver, List<WebElement> elements, String childSelector,
+                                             String... attributes) {
+        if (elements.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return toSnapshots(READ.execute(driver, elements, null, null, List.of(attributes), childSelector));
+    }
+
+    private static List<ElementSnapshot> toSnapshots(Object raw) {
+        List<ElementSnapshot> snapshots = new ArrayList<>();
+        for (Object item : (List<?>) raw) {
+            Map<?, ?> map = (Map<?, ?>) item;
+            Map<String, String> attributes = new LinkedHashMap<>();
+            ((Map<?, ?>) map.get("attributes")).forEach((name, value) ->
+                    attributes.put(String.valueOf(name), value == null ? null : String.valueOf(value)));
+            snapshots.add(new ElementSnapshot(
+                    (WebElement) map.get("element"),
+                    String.valueOf(map.get("text")),
+                    Boolean.TRUE.equals(map.get("displayed")),
+                    new Rectangle(intValue(map.get("x")), intValue(map.get("y")),
+                            intValue(map.get("height")), intValue(map.get("width"))),
+                    attributes));
+        }
+        return snapshots;
+    }
+
+    private static int intValue(Object number) {
+        return number == null ? 0 : ((Number) number).intValue();
+    }
+
+    /**
+     * State of one element at the time of the batched read
+     */
+    public static final class ElementSnapshot {
+        private final WebElement element;
+        private final String text;
+        private final boolean displayed;
+        private final Rectangle rect;
+        private final Map<String, String> attributes;
+
+        private ElementSnapshot(WebElement element, String text, boolean displayed, Rectangle rect,
+                                Map<String, String> attributes) {
+            this.element = element;
+            this.text = text;
+            this.displayed = displayed;
+            this.rect = rect;
+            this.attributes = attributes;
+        }
+
+        public WebElement getElement() {
+            return element;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public boolean isDisplayed() {
+            return displayed;
+        }
+
+        public Rectangle getRect() {
+            return rect;
+        }
+
+        public String getAttribute(String name) {
+            return attributes.get(name);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package ui.component;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Locators for @FindBy WebElement fields that remember the resolved element
+ * The element is reused until the page navigates (invalidate) or it turns out stale,
+ * which CachingFieldDecorator detects and answers with one fresh lookup.
+ * List fields are always looked up again, since their size can change without going stale.
+ */
+public class CachingElementLocatorFactory {
+
+    // Bumped on every navigation; a cached element from an older generation is looked up again
+    private static final Map<WebDriver, AtomicLong> generations = Collections.synchronizedMap(new WeakHashMap<>());
+    // Page class -> {hits, misses, stale}
+    private static final Map<String, LongAdder[]> statistics = new ConcurrentHashMap<>();
+
+    private final AtomicLong generation;
+    private final LongAdder[] counters;
+
+    /**
+     * Factory for page bindings, which create their own locators (see wrap)
+     * @param page Page object name the hit/miss counters are reported under
+     */
+    public CachingElementLocatorFactory(WebDriver driver, String page) {
+        this.generation = generations.computeIfAbsent(driver, d -> new AtomicLong());
+        this.counters = statistics.computeIfAbsent(page, p -> new LongAdder[]{new LongAdder(), new LongAdder(), new LongAdder()});
+    }
+
+    /**
+     * Cache the elements found by an existing locator
+     */
+    CachingElementLocator wrap(ElementLocator locator) {
+        return new CachingElementLocator(locator);
+    }
+
+    /**
+     * Drop all cached elements of a session (call after navigating)
+     */
+    public static void invalidate(WebDriver driver) {
+        AtomicLong current = generations.get(driver);
+        if (current != null) {
+            current.incrementAndGet();
+        }
+    }
+
+    public static void printStatistics() {
+        Map<String, LongAdder[]> sorted = new TreeMap<>(statistics);
+        sorted.forEach((page, counters) -> {
+            long hits = counters[0].sum();
+            long misses = counters[1].sum();
+            if (hits + misses > 0) {
+                System.out.println("🗃️ Element cache " + page + ": " + hits + " hits, " + misses + " lookups ("
+                        + counters[2].sum() + " stale), hit rate " + hits * 100 / (hits + misses) + "%");
+            }
+        });
+    }
+
+    /**
+     * Locator serving the cached element while it is valid
+     */
+    final class CachingElementLocator implements ElementLocator {
+        private final ElementLocator delegate;
+        private WebElement cached;
+        private long cachedGeneration;
+        private boolean fromCache;
+
+        private CachingElementLocator(ElementLocator delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public synchronized WebElement findElement() {
+            if (cached != null && cachedGeneration == generation.get()) {
+                counters[0].increment();
+                fromCache = true;
+                return cached;
+            }
+            counters[1].increment();
+            long current = generation.get();
+            cached = delegate.findElement();
+            cachedGeneration = current;
+            fromCache = false;
+            return cached;
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            return delegate.findElements();
+        }
+
+        /**
+         * Forget a stale element
+         * @return true if the last element handed out came from the cache, so a fresh lookup may succeed
+         */
+        synchronized boolean evictStale() {
+            boolean retry = fromCache;
+            cached = null;
+            fromCache = false;
+            if (retry) {
+                counters[2].increment();
+            }
+            return retry;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+}
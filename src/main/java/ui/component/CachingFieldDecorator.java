@@ -0,0 +1,59 @@
+package ui.component;
+
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Handler for the WebElement proxies PageBindings creates over cached locators
+ * A call on a cached element that turns out stale is retried once with a fresh lookup.
+ */
+final class CachingFieldDecorator {
+
+    private CachingFieldDecorator() {
+    }
+
+    static InvocationHandler handlerFor(CachingElementLocatorFactory.CachingElementLocator locator) {
+        return new Handler(locator);
+    }
+
+    private static final class Handler implements InvocationHandler {
+        private final CachingElementLocatorFactory.CachingElementLocator locator;
+
+        private Handler(CachingElementLocatorFactory.CachingElementLocator locator) {
+            this.locator = locator;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            WebElement element;
+            try {
+                element = locator.findElement();
+            } catch (NoSuchElementException e) {
+                if ("toString".equals(method.getName())) {
+                    return "Proxy element for: " + locator;
+                }
+                throw e;
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return element;
+            }
+            try {
+                return method.invoke(element, args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException) || !locator.evictStale()) {
+                    throw e.getCause();
+                }
+            }
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package ui.component;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Enters text into a field with a given InputStrategy and times every input per strategy
+ */
+public class InputFiller {
+
+    // Uses the prototype's value setter so framework-patched inputs (Angular forms) see the change
+    private static final PinnedScript FILL = new PinnedScript("fastFill", String.join("\n",
+            "var el = arguments[0], value = arguments[1], proto;",
+            "if (el instanceof HTMLInputElement) proto = HTMLInputElement.prototype;",
+            "else if (el instanceof HTMLTextAreaElement) proto = HTMLTextAreaElement.prototype;",
+            "else return false;",
+            "el.focus();",
+            "Object.getOwnPropertyDescriptor(proto, 'value').set.call(el, value);",
+            "el.dispatchEvent(new Event('input', {bubbles: true}));",
+            "el.dispatchEvent(new Event('change', {bubbles: true}));",
+            "return true;"));
+
+    private static final Map<InputStrategy, LongAdder> counts = new EnumMap<>(InputStrategy.class);
+    private static final Map<InputStrategy, LongAdder> totalNanos = new EnumMap<>(InputStrategy.class);
+
+    static {
+        for (InputStrategy strategy : InputStrategy.values()) {
+            counts.put(strategy, new LongAdder());
+            totalNanos.put(strategy, new LongAdder());
+        }
+    }
+
+    private InputFiller() {
+    }
+
+    /**
+     * Replace the field's text
+     * Script strategies fall back to native typing for elements that are not input/textarea.
+     */
+    public static void fill(WebDriver driver, WebElement element, String text, InputStrategy strategy) {
+        long start = System.nanoTime();
+        InputStrategy used = strategy;
+        switch (strategy) {
+            case FAST_FILL -> {
+                if (!setValue(driver, element, text)) {
+                    used = typeNatively(element, text);
+                }
+            }
+            case HYBRID -> {
+                if (text.length() > 1 && setValue(driver, element, text.substring(0, text.length() - 1))) {
+                    element.sendKeys(text.substring(text.length() - 1));
+                } else {
+                    used = typeNatively(element, text);
+                }
+            }
+            default -> typeNatively(element, text);
+        }
+        counts.get(used).increment();
+        totalNanos.get(used).add(System.nanoTime() - start);
+    }
+
+    public static void printStatistics() {
+        StringBuilder line = new StringBuilder();
+        for (InputStrategy strategy : InputStrategy.values()) {
+            long count = counts.get(strategy).sum();
+            if (count > 0) {
+                line.append(line.length() == 0 ? "" : " | ").append(strategy).append(": ").append(count)
+                        .append(" inputs, avg ").append(totalNanos.get(strategy).sum() / count / 1_000_000).append("ms");
+            }
+        }
+        if (line.length() > 0) {
+            System.out.println("⌨️ Input " + line);
+        }
+    }
+
+    private static boolean setValue(WebDriver driver, WebElement element, String value) {
+        return Boolean.TRUE.equals(FILL.execute(driver, element, value));
+    }
+
+    private static InputStrategy typeNatively(WebElement element, String text) {
+        element.clear();
+        element.sendKeys(text);
+        return InputStrategy.NATIVE;
+    }
+}
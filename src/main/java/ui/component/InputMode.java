@@ -0,0 +1,16 @@
+package ui.component;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Input strategy for a page object field (WebElement or By) used with BaseComponent.type
+ * Fields without it use the input.strategy configuration.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface InputMode {
+    InputStrategy value();
+}
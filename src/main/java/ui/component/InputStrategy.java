@@ -0,0 +1,13 @@
+package ui.component;
+
+/**
+ * How BaseComponent.type enters text into a field
+ */
+public enum InputStrategy {
+    /** clear() + sendKeys: real key events for every character */
+    NATIVE,
+    /** Set the value by script and dispatch input/change events - one round trip, no key events */
+    FAST_FILL,
+    /** Fast-fill all but the last character, then type it natively so key handlers (typeahead) fire */
+    HYBRID
+}
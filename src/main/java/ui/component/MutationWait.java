@@ -0,0 +1,192 @@
+package ui.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.UnsupportedCommandException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DOM waits resolved inside the browser by a MutationObserver
+ * One async script call per wait: the condition is checked on every DOM mutation and the
+ * call returns as soon as it holds, instead of being re-checked over the wire every poll.
+ */
+public class MutationWait {
+
+    // Stay well below the default 30 s script timeout; longer waits are split into several calls
+    private static final long MAX_CALL_MILLIS = 20_000;
+    private static final Set<String> SUPPORTED_LOCATORS = Set.of("css selector", "xpath", "tag name");
+
+    private static final String SCRIPT = String.join("\n",
+            "var using = arguments[0], value = arguments[1], kind = arguments[2], expected = arguments[3],",
+            "    attribute = arguments[4], timeout = arguments[5], done = arguments[arguments.length - 1];",
+            "function find() {",
+            "  if (using === 'xpath') {",
+            "    var snapshot = document.evaluate(value, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);",
+            "    var found = [];",
+            "    for (var i = 0; i < snapshot.snapshotLength; i++) found.push(snapshot.snapshotItem(i));",
+            "    return found;",
+            "  }",
+            "  return Array.prototype.slice.call(document.querySelectorAll(value));",
+            "}",
+            "function visible(el) {",
+            "  if (!(el.offsetWidth || el.offsetHeight || el.getClientRects().length)) return false;",
+            "  var style = window.getComputedStyle(el);",
+            "  return style.visibility !== 'hidden' && style.display !== 'none' && style.opacity !== '0';",
+            "}",
+            "function check() {",
+            "  var els = find();",
+            "  switch (kind) {",
+            "    case 'APPEAR': return els.some(visible);",
+            "    case 'DISAPPEAR': return !els.some(visible);",
+            "    case 'TEXT': return els.some(function (e) { return (e.innerText || e.textContent || '').indexOf(expected) >= 0; });",
+            "    case 'ATTRIBUTE': return els.some(function (e) { return e.getAttribute(attribute) === expected; });",
+            "  }",
+            "  return false;",
+            "}",
+            "if (check()) { done(true); return; }",
+            "var finished = false, timer;",
+            "var observer = new MutationObserver(function () { if (!finished && check()) finish(true); });",
+            "function finish(result) { finished = true; observer.disconnect(); clearTimeout(timer); done(result); }",
+            "observer.observe(document.documentElement, {childList: true, subtree: true, attributes: true, characterData: true});",
+            "timer = setTimeout(function () { finish(check()); }, timeout);");
+
+    private static final Stats observerStats = new Stats();
+    private static final Stats pollingStats = new Stats();
+
+    private MutationWait() {
+    }
+
+    /**
+     * Result of an observer wait
+     */
+    public enum Outcome {
+        MET, TIMED_OUT, UNAVAILABLE
+    }
+
+    /**
+     * Wait for a DOM condition with one async script per (up to 20 s) slice
+     * @return UNAVAILABLE when the driver, the locator type or the page cannot run the observer;
+     *         the caller should then poll for the remaining time
+     */
+    public static Outcome await(WebDriver driver, By locator, Condition condition, Duration timeout) {
+        if (!(driver instanceof JavascriptExecutor) || !(locator instanceof By.Remotable)) {
+            return Outcome.UNAVAILABLE;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!SUPPORTED_LOCATORS.contains(parameters.using())) {
+            return Outcome.UNAVAILABLE;
+        }
+        String value = String.valueOf(parameters.value());
+        String using = "tag name".equals(parameters.using()) ? "css selector" : parameters.using();
+
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        int calls = 0;
+        try {
+            while (true) {
+                long remaining = Math.max(0, (deadline - System.nanoTime()) / 1_000_000);
+                calls++;
+                Object met = ((JavascriptExecutor) driver).executeAsyncScript(SCRIPT, using, value,
+                        condition.kind, condition.expected, condition.attribute, Math.min(remaining, MAX_CALL_MILLIS));
+                if (Boolean.TRUE.equals(met)) {
+                    observerStats.record(System.nanoTime() - start, calls);
+                    return Outcome.MET;
+                }
+                if (System.nanoTime() >= deadline) {
+                    observerStats.record(System.nanoTime() - start, calls);
+                    return Outcome.TIMED_OUT;
+                }
+            }
+        } catch (ScriptTimeoutException | UnsupportedCommandException e) {
+            return Outcome.UNAVAILABLE;
+        } catch (WebDriverException e) {
+            // Typically the page navigated away mid-wait, which discards the script
+            return Outcome.UNAVAILABLE;
+        }
+    }
+
+    /**
+     * Record a DOM wait that was served by polling, for comparison with the observer
+     */
+    static void recordPolling(long nanos, int polls) {
+        pollingStats.record(nanos, polls);
+    }
+
+    /**
+     * Print average latency and round trips per wait for both backends
+     */
+    public static void printComparison() {
+        if (observerStats.count.sum() == 0 && pollingStats.count.sum() == 0) {
+            return;
+        }
+        System.out.println("🔭 DOM waits  observer: " + observerStats + " | polling: " + pollingStats);
+    }
+
+    /**
+     * A DOM condition over all elements matching a locator
+     */
+    public static final class Condition {
+        private final String kind;
+        private final String expected;
+        private final String attribute;
+
+        private Condition(String kind, String expected, String attribute) {
+            this.kind = kind;
+            this.expected = expected;
+            this.attribute = attribute;
+        }
+
+        public static Condition appear() {
+            return new Condition("APPEAR", null, null);
+        }
+
+        public static Condition disappear() {
+            return new Condition("DISAPPEAR", null, null);
+        }
+
+        public static Condition textContains(String text) {
+            return new Condition("TEXT", text, null);
+        }
+
+        public static Condition attributeEquals(String attribute, String value) {
+            return new Condition("ATTRIBUTE", value, attribute);
+        }
+
+        @Override
+        public String toString() {
+            return kind + (expected == null ? "" : " " + (attribute == null ? "" : attribute + "=") + "'" + expected + "'");
+        }
+    }
+
+    private static final class Stats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAdder roundTrips = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        private void record(long nanos, int trips) {
+            count.increment();
+            totalNanos.add(nanos);
+            roundTrips.add(trips);
+            maxNanos.accumulate(nanos);
+        }
+
+        @Override
+        public String toString() {
+            long n = count.sum();
+            if (n == 0) {
+                return "no waits";
+            }
+            return n + " waits, avg " + totalNanos.sum() / n / 1_000_000 + "ms, max "
+                    + maxNanos.get() / 1_000_000 + "ms, " + String.format("%.1f", (double) roundTrips.sum() / n)
+                    + " round trips/wait";
+        }
+    }
+}
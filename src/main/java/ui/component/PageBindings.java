@@ -0,0 +1,247 @@
+package ui.component;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.AbstractAnnotations;
+import org.openqa.selenium.support.pagefactory.AjaxElementLocator;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.DefaultElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementHandler;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+import ui.driver.LazyNavigation;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Replacement for PageFactory.initElements that scans a page class only once
+ * The first page of a class resolves its WebElement fields, their By locators and setter handles;
+ * every later instance just creates the proxies and assigns them. Field selection and locators
+ * match PageFactory's default decorator (unannotated WebElement fields are found by id or name).
+ */
+public final class PageBindings {
+
+    private static final MethodType SETTER = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType GETTER = MethodType.methodType(Object.class, Object.class);
+    private static final Class<?>[] ELEMENT_INTERFACES = {WebElement.class, WrapsElement.class, Locatable.class};
+
+    private static final Map<Class<?>, PageBindings> bindings = new ConcurrentHashMap<>();
+    private static final LongAdder scans = new LongAdder();
+    private static final LongAdder scanNanos = new LongAdder();
+    private static final LongAdder binds = new LongAdder();
+    private static final LongAdder bindNanos = new LongAdder();
+
+    private final List<Binding> fields;
+    private final List<InputField> inputFields;
+
+    private PageBindings(List<Binding> fields, List<InputField> inputFields) {
+        this.fields = fields;
+        this.inputFields = inputFields;
+    }
+
+    /**
+     * Assign element proxies to the page's fields
+     * @param implicitTimeout Seconds the proxies wait for their elements themselves; 0 to rely on the implicit wait
+     * @param cache Element cache to serve single elements from, or null
+     */
+    public static void bind(Object page, WebDriver driver, int implicitTimeout, CachingElementLocatorFactory cache) {
+        PageBindings pageBindings = bindings.computeIfAbsent(page.getClass(), PageBindings::scan);
+        long start = System.nanoTime();
+        ClassLoader loader = page.getClass().getClassLoader();
+        boolean deferred = LazyNavigation.isPending(driver);
+        for (Binding binding : pageBindings.fields) {
+            ElementLocator locator = implicitTimeout > 0
+                    ? new AjaxElementLocator(driver, implicitTimeout, binding.annotations)
+                    : new DefaultElementLocator(driver, binding.annotations);
+            if (deferred) {
+                locator = new NavigatingLocator(driver, locator);
+            }
+            Object proxy;
+            if (binding.list) {
+                proxy = Proxy.newProxyInstance(loader, new Class<?>[]{List.class}, new LocatingElementListHandler(locator));
+            } else {
+                InvocationHandler handler = cache != null
+                        ? CachingFieldDecorator.handlerFor(cache.wrap(locator))
+                        : new LocatingElementHandler(locator);
+                proxy = Proxy.newProxyInstance(loader, ELEMENT_INTERFACES, handler);
+            }
+            try {
+                binding.setter.invokeExact(page, proxy);
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot bind " + binding.annotations.buildBy() + " on "
+                        + page.getClass().getSimpleName(), e);
+            }
+        }
+        binds.increment();
+        bindNanos.add(System.nanoTime() - start);
+    }
+
+    /**
+     * Values of the page's @InputMode fields (WebElement proxies or By locators) with their strategy
+     * The annotations are resolved by the class scan; this only reads the fields.
+     */
+    public static Map<Object, InputStrategy> inputModes(Object page) {
+        Map<Object, InputStrategy> modes = new IdentityHashMap<>();
+        for (InputField inputField : bindings.computeIfAbsent(page.getClass(), PageBindings::scan).inputFields) {
+            try {
+                Object value = inputField.getter.invokeExact(page);
+                if (value != null) {
+                    modes.put(value, inputField.strategy);
+                }
+            } catch (Throwable e) {
+                throw new IllegalStateException("Cannot read @InputMode field of " + page.getClass().getSimpleName(), e);
+            }
+        }
+        return modes;
+    }
+
+    public static void printStatistics() {
+        long count = binds.sum();
+        if (count > 0) {
+            System.out.println("🧩 Page bindings: " + count + " pages bound (avg "
+                    + bindNanos.sum() / count / 1000 + "µs), " + scans.sum() + " classes scanned (avg "
+                    + scanNanos.sum() / Math.max(1, scans.sum()) / 1000 + "µs)");
+        }
+    }
+
+    private static PageBindings scan(Class<?> type) {
+        long start = System.nanoTime();
+        List<Binding> fields = new ArrayList<>();
+        List<InputField> inputFields = new ArrayList<>();
+        for (Class<?> current = type; current != Object.class; current = current.getSuperclass()) {
+            for (Field field : current.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                InputMode mode = field.getAnnotation(InputMode.class);
+                if (mode != null) {
+                    try {
+                        field.setAccessible(true);
+                        inputFields.add(new InputField(MethodHandles.lookup().unreflectGetter(field).asType(GETTER),
+                                mode.value()));
+                    } catch (IllegalAccessException e) {
+                        throw new IllegalStateException("Cannot read @InputMode field " + field, e);
+                    }
+                }
+                boolean list = isElementList(field);
+                if (!list && field.getType() != WebElement.class) {
+                    continue;
+                }
+                try {
+                    field.setAccessible(true);
+                    MethodHandle setter = MethodHandles.lookup().unreflectSetter(field).asType(SETTER);
+                    fields.add(new Binding(setter, new PrebuiltAnnotations(new Annotations(field)), list));
+                } catch (IllegalAccessException e) {
+                    throw new IllegalStateException("Cannot bind field " + field, e);
+                }
+            }
+        }
+        scans.increment();
+        scanNanos.add(System.nanoTime() - start);
+        return new PageBindings(fields, inputFields);
+    }
+
+    private static boolean isElementList(Field field) {
+        if (field.getType() != List.class || !(field.getGenericType() instanceof ParameterizedType)) {
+            return false;
+        }
+        ParameterizedType type = (ParameterizedType) field.getGenericType();
+        return type.getActualTypeArguments()[0] == WebElement.class
+                && (field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class));
+    }
+
+    /**
+     * Loads the deferred start page before the first lookup
+     */
+    private static final class NavigatingLocator implements ElementLocator {
+        private final WebDriver driver;
+        private final ElementLocator delegate;
+
+        private NavigatingLocator(WebDriver driver, ElementLocator delegate) {
+            this.driver = driver;
+            this.delegate = delegate;
+        }
+
+        @Override
+        public WebElement findElement() {
+            LazyNavigation.ensureNavigated(driver);
+            return delegate.findElement();
+        }
+
+        @Override
+        public List<WebElement> findElements() {
+            LazyNavigation.ensureNavigated(driver);
+            return delegate.findElements();
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();
+        }
+    }
+
+    private static final class InputField {
+        private final MethodHandle getter;
+        private final InputStrategy strategy;
+
+        private InputField(MethodHandle getter, InputStrategy strategy) {
+            this.getter = getter;
+            this.strategy = strategy;
+        }
+    }
+
+    private static final class Binding {
+        private final MethodHandle setter;
+        private final AbstractAnnotations annotations;
+        private final boolean list;
+
+        private Binding(MethodHandle setter, AbstractAnnotations annotations, boolean list) {
+            this.setter = setter;
+            this.annotations = annotations;
+            this.list = list;
+        }
+    }
+
+    /**
+     * Annotations evaluated once; By instances are immutable and shared by all pages of the class
+     */
+    private static final class PrebuiltAnnotations extends AbstractAnnotations {
+        private final By by;
+        private final boolean lookupCached;
+
+        private PrebuiltAnnotations(Annotations annotations) {
+            this.by = annotations.buildBy();
+            this.lookupCached = annotations.isLookupCached();
+        }
+
+        @Override
+        public By buildBy() {
+            return by;
+        }
+
+        @Override
+        public boolean isLookupCached() {
+            return lookupCached;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package ui.component;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Script installed into the page once and afterwards invoked by name
+ * Works with every driver (JavascriptExecutor.pin only shortens calls on local Chromium drivers).
+ * After a navigation the first call finds the function missing and sends the full body again.
+ */
+public final class PinnedScript {
+
+    private static final String MISSING = "__pinned_script_missing__";
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder installs = new LongAdder();
+    private static final LongAdder bytesSaved = new LongAdder();
+
+    private final String function;
+    private final String invokeScript;
+    private final String installScript;
+
+    /**
+     * @param name Unique name (a JavaScript identifier)
+     * @param body Function body; receives the call arguments as "arguments"
+     */
+    public PinnedScript(String name, String body) {
+        this.function = "__pinned_" + name;
+        this.invokeScript = "var f = window." + function + "; return f ? f.apply(null, arguments) : '" + MISSING + "';";
+        this.installScript = "window." + function + " = function () {\n" + body + "\n};\n"
+                + "return window." + function + ".apply(null, arguments);";
+    }
+
+    /**
+     * Run the script, installing it first if the current document does not have it
+     */
+    public Object execute(WebDriver driver, Object... args) {
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        Object result = js.executeScript(invokeScript, args);
+        if (MISSING.equals(result)) {
+            installs.increment();
+            return js.executeScript(installScript, args);
+        }
+        hits.increment();
+        bytesSaved.add(installScript.length() - invokeScript.length());
+        return result;
+    }
+
+    public static void printStatistics() {
+        if (hits.sum() > 0 || installs.sum() > 0) {
+            System.out.println("📌 Pinned scripts: " + hits.sum() + " calls by name, " + installs.sum()
+                    + " installs, ~" + bytesSaved.sum() / 1024 + " KB of script body not re-sent");
+        }
+    }
+}
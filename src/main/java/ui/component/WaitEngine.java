@@ -0,0 +1,165 @@
+package ui.component;
+
+import config.Config;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.NotFoundException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Explicit wait with adaptive polling, reused per thread instead of allocating a WebDriverWait per call
+ * Polls quickly at first (most conditions are met within a few hundred ms), then backs off
+ * exponentially up to a cap so long waits do not flood the driver with commands.
+ */
+public class WaitEngine {
+    private static final Logger logger = LogManager.getLogger(WaitEngine.class);
+
+    private static final ThreadLocal<WaitEngine> engines = new ThreadLocal<>();
+
+    private static final LongAdder totalWaits = new LongAdder();
+    private static final LongAdder totalTimeouts = new LongAdder();
+    private static final LongAdder totalPolls = new LongAdder();
+    private static final LongAdder totalElapsedMillis = new LongAdder();
+
+    private final WebDriver driver;
+    private final long initialPollMillis;
+    private final long maxPollMillis;
+    private final double backoff;
+    private WaitResult lastWait;
+
+    public WaitEngine(WebDriver driver, long initialPollMillis, long maxPollMillis, double backoff) {
+        this.driver = driver;
+        this.initialPollMillis = Math.max(1, initialPollMillis);
+        this.maxPollMillis = Math.max(this.initialPollMillis, maxPollMillis);
+        this.backoff = Math.max(1.0, backoff);
+    }
+
+    /**
+     * Wait engine of the current thread for a driver, configured from Config
+     * @param driver Driver the conditions are evaluated against
+     * @return Cached engine, replaced when the thread moves on to another driver
+     */
+    public static WaitEngine forDriver(WebDriver driver) {
+        WaitEngine engine = engines.get();
+        if (engine == null || engine.driver != driver) {
+            engine = new WaitEngine(driver, Config.getWaitPollInitial(), Config.getWaitPollMax(),
+                    Config.getWaitPollBackoff());
+            engines.set(engine);
+        }
+        return engine;
+    }
+
+    /**
+     * Wait until a condition returns a value other than null or false
+     * NotFoundException and StaleElementReferenceException count as "not yet", like WebDriverWait.
+     * @param condition Condition, e.g. one of ExpectedConditions
+     * @param timeout Maximum time to wait
+     * @return Condition's final value
+     * @throws TimeoutException if the condition is not met in time
+     */
+    public <T> T until(Function<? super WebDriver, T> condition, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long interval = initialPollMillis;
+        int polls = 0;
+        RuntimeException lastError = null;
+
+        while (true) {
+            polls++;
+            try {
+                T value = condition.apply(driver);
+                if (value != null && !Boolean.FALSE.equals(value)) {
+                    finish(condition, start, polls, true);
+                    return value;
+                }
+            } catch (NotFoundException | StaleElementReferenceException e) {
+                lastError = e;
+            }
+
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                WaitResult result = finish(condition, start, polls, false);
+                throw new TimeoutException("Expected condition failed: waiting for " + condition
+                        + " (tried for " + result.getElapsedMillis() + "ms with " + polls + " polls)", lastError);
+            }
+            sleep(Math.min(interval, remainingMillis));
+            interval = Math.min(maxPollMillis, (long) Math.ceil(interval * backoff));
+        }
+    }
+
+    /**
+     * Timing of the most recent wait run by this engine
+     */
+    public WaitResult getLastWait() {
+        return lastWait;
+    }
+
+    /**
+     * Print totals over all waits of the run
+     */
+    public static void printStatistics() {
+        long waits = totalWaits.sum();
+        if (waits == 0) {
+            return;
+        }
+        System.out.println("⏱️ Waits: " + waits + ", timeouts: " + totalTimeouts.sum()
+                + ", polls: " + totalPolls.sum() + " (avg " + String.format("%.1f", (double) totalPolls.sum() / waits)
+                + "), avg wait: " + totalElapsedMillis.sum() / waits + "ms");
+    }
+
+    private WaitResult finish(Object condition, long start, int polls, boolean satisfied) {
+        lastWait = new WaitResult((System.nanoTime() - start) / 1_000_000, polls, satisfied);
+        totalWaits.increment();
+        totalPolls.add(polls);
+        totalElapsedMillis.add(lastWait.getElapsedMillis());
+        if (!satisfied) {
+            totalTimeouts.increment();
+        }
+        logger.debug("Wait for {} {} after {}ms, {} polls", condition,
+                satisfied ? "met" : "timed out", lastWait.getElapsedMillis(), polls);
+        return lastWait;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WebDriverException("Interrupted while waiting", e);
+        }
+    }
+
+    /**
+     * Elapsed time and poll count of one wait
+     */
+    public static final class WaitResult {
+        private final long elapsedMillis;
+        private final int polls;
+        private final boolean satisfied;
+
+        private WaitResult(long elapsedMillis, int polls, boolean satisfied) {
+            this.elapsedMillis = elapsedMillis;
+            this.polls = polls;
+            this.satisfied = satisfied;
+        }
+
+        public long getElapsedMillis() {
+            return elapsedMillis;
+        }
+
+        public int getPolls() {
+            return polls;
+        }
+
+        public boolean isSatisfied() {
+            return satisfied;
+        }
+    }
+}
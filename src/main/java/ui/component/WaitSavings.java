@@ -0,0 +1,52 @@
+package ui.component;
+
+import config.Config;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Time saved by running without an implicit wait
+ * Every lookup that finds nothing would have blocked for the full implicit timeout;
+ * the difference to what the immediate lookup actually took is counted as saved.
+ */
+public class WaitSavings {
+
+    private static final ThreadLocal<long[]> perTest = ThreadLocal.withInitial(() -> new long[2]);
+    private static final LongAdder totalMisses = new LongAdder();
+    private static final LongAdder totalSavedMillis = new LongAdder();
+
+    private WaitSavings() {
+    }
+
+    /**
+     * Record an immediate lookup that found no element
+     * @param elapsedMillis Time the lookup took
+     */
+    static void recordMiss(long elapsedMillis) {
+        long saved = Math.max(0, Config.getImplicitTimeout() * 1000L - elapsedMillis);
+        long[] counters = perTest.get();
+        counters[0]++;
+        counters[1] += saved;
+        totalMisses.increment();
+        totalSavedMillis.add(saved);
+    }
+
+    /**
+     * Print and reset the current thread's savings (one call per test)
+     */
+    public static void reportTest(String testName) {
+        long[] counters = perTest.get();
+        if (counters[0] > 0) {
+            System.out.println("⚡ Zero implicit wait saved ~" + counters[1] + "ms in " + testName
+                    + " (" + counters[0] + " fast negative lookups)");
+        }
+        perTest.remove();
+    }
+
+    public static void printStatistics() {
+        if (totalMisses.sum() > 0) {
+            System.out.println("⚡ Zero implicit wait saved ~" + totalSavedMillis.sum() / 1000 + "s over "
+                    + totalMisses.sum() + " negative lookups");
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package ui.component;
+
+/**
+ * How BaseComponent waits for a locator when the driver runs without an implicit wait
+ * Page objects declare one per locator with BaseComponent.declareWait(By, WaitStrategy).
+ */
+public enum WaitStrategy {
+    /** Element is in the DOM */
+    PRESENCE,
+    /** Element is in the DOM and visible */
+    VISIBILITY,
+    /** Element is visible and enabled */
+    CLICKABLE,
+    /** Element is missing or hidden */
+    ABSENT,
+    /** Look up once, never wait */
+    NONE
+}
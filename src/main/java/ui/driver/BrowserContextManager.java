@@ -0,0 +1,379 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WindowType;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContext;
+import org.openqa.selenium.bidi.browsingcontext.BrowsingContextInfo;
+import org.openqa.selenium.bidi.browsingcontext.CreateContextParameters;
+import org.openqa.selenium.bidi.browsingcontext.ReadinessState;
+import org.openqa.selenium.bidi.module.Browser;
+import org.openqa.selenium.bidi.module.Script;
+import org.openqa.selenium.bidi.script.EvaluateResult;
+import org.openqa.selenium.bidi.script.EvaluateResultExceptionValue;
+import org.openqa.selenium.bidi.script.EvaluateResultSuccess;
+import org.openqa.selenium.bidi.script.LocalValue;
+import org.openqa.selenium.bidi.script.RemoteReference;
+import org.openqa.selenium.bidi.script.RemoteValue;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.RemoteWebElement;
+import org.openqa.selenium.support.decorators.Decorated;
+import org.openqa.selenium.support.decorators.WebDriverDecorator;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs several tests inside one browser process, each in its own WebDriver BiDi user context
+ * (separate cookies, storage and cache - like an incognito profile per test).
+ *
+ * Classic WebDriver commands share one session, so they are serialized and the session is
+ * switched to the calling test's window before each command. Navigation, scripts and the window
+ * reads (handles, URL, title) go through BiDi, which targets the context directly and therefore
+ * does not block other tests; only element commands remain serialized. The time spent waiting
+ * for the shared session and the window switches it caused are printed at shutdown.
+ */
+public class BrowserContextManager {
+
+    private static final Object commandLock = new Object();
+    private static final AtomicInteger contextsCreated = new AtomicInteger();
+    private static final LongAdder serializedCommands = new LongAdder();
+    private static final LongAdder lockWaitNanos = new LongAdder();
+    private static final LongAdder windowSwitches = new LongAdder();
+    // Navigations run here so the caller can give up after the page load timeout
+    private static final ExecutorService navigations = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "context-navigation");
+        thread.setDaemon(true);
+        return thread;
+    });
+    // Context drivers handed out and not closed yet (the proxies forward equals/hashCode, so by identity)
+    private static final Map<WebDriver, ContextDecorator> contexts = Collections.synchronizedMap(new IdentityHashMap<>());
+
+    private static WebDriver host;
+    // Window the shared session is currently switched to (guarded by commandLock)
+    private static String activeHandle;
+
+    private BrowserContextManager() {
+    }
+
+    /**
+     * Open a fresh isolated context in the shared browser
+     * @return WebDriver bound to the new context; quit() closes only that context
+     */
+    public static WebDriver newContext() {
+        WebDriver browser = getHost();
+        String userContext = new Browser(browser).createUserContext();
+        BrowsingContext context = new BrowsingContext(browser,
+                new CreateContextParameters(WindowType.WINDOW).userContext(userContext));
+        contextsCreated.incrementAndGet();
+        ContextDecorator decorator = new ContextDecorator(browser, userContext, context.getId());
+        WebDriver driver = decorator.decorate(browser);
+        contexts.put(driver, decorator);
+        return driver;
+    }
+
+    /**
+     * Shared browser a context driver runs in
+     * @return null if the driver is not a (still open) context driver
+     */
+    public static WebDriver hostOf(WebDriver driver) {
+        ContextDecorator decorator = contexts.get(driver);
+        return decorator == null ? null : decorator.browser;
+    }
+
+    /**
+     * Browsing contexts (window handles) a context driver has used so far
+     * @return empty if the driver is not a (still open) context driver
+     */
+    public static Set<String> browsingContextsOf(WebDriver driver) {
+        ContextDecorator decorator = contexts.get(driver);
+        return decorator == null ? Collections.emptySet() : Set.copyOf(decorator.handles);
+    }
+
+    /**
+     * Quit the shared browser
+     */
+    public static synchronized void shutdown() {
+        if (host != null) {
+            System.out.println("🧩 Browser contexts created: " + contextsCreated.get());
+            System.out.printf("🧩 Serialized commands: %d, waited %d ms for the shared session, %d window switches%n",
+                    serializedCommands.sum(), TimeUnit.NANOSECONDS.toMillis(lockWaitNanos.sum()),
+                    windowSwitches.sum());
+            WebDriverFactory.quitDriver(host);
+            host = null;
+            activeHandle = null;
+        }
+    }
+
+    private static synchronized WebDriver getHost() {
+        if (host != null) {
+            try {
+                // getWindowHandles() works even when the active window belonged to a closed context
+                host.getWindowHandles();
+                return host;
+            } catch (Exception e) {
+                System.err.println("❌ Shared browser for contexts is gone, starting a new one");
+                WebDriverFactory.quitDriver(host);
+            }
+        }
+        host = WebDriverFactory.createBiDiDriver();
+        // An implicit wait would hold the shared command lock for its full duration
+        host.manage().timeouts().implicitlyWait(Duration.ZERO);
+        activeHandle = host.getWindowHandle();
+        return host;
+    }
+
+    /**
+     * Routes calls from one test to its own window of the shared session
+     */
+    private static final class ContextDecorator extends WebDriverDecorator<WebDriver> {
+        private static final String SCRIPT_TIMEOUT = "context script timeout";
+
+        private final WebDriver browser;
+        private final String userContext;
+        private final Set<String> handles = ConcurrentHashMap.newKeySet();
+        private String handle;
+
+        private ContextDecorator(WebDriver browser, String userContext, String handle) {
+            this.browser = browser;
+            this.userContext = userContext;
+            this.handle = handle;
+            this.handles.add(handle);
+        }
+
+        @Override
+        public Object call(Decorated<?> target, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            Object original = target.getOriginal();
+
+            if (original == browser && "quit".equals(name)) {
+                closeContext();
+                return null;
+            }
+            boolean navigation = (original == browser && "get".equals(name))
+                    || (original instanceof WebDriver.Navigation && "to".equals(name));
+            if (navigation && args != null && args.length == 1 && args[0] instanceof String) {
+                navigate((String) args[0]);
+                return null;
+            }
+
+            if (original == browser) {
+                switch (name) {
+                    case "getWindowHandle":
+                        return handle;
+                    case "getWindowHandles":
+                        return windowHandles();
+                    case "getCurrentUrl":
+                        return new BrowsingContext(browser, handle).getTree(handle, 0).get(0).getUrl();
+                    case "getTitle":
+                        return callScript("return document.title;", Collections.emptyList(), false);
+                    case "executeScript":
+                    case "executeAsyncScript":
+                        List<LocalValue> arguments = toLocalValues((Object[]) args[1]);
+                        if (arguments != null) {
+                            return callScript((String) args[0], arguments, "executeAsyncScript".equals(name));
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+
+            long waitStart = System.nanoTime();
+            synchronized (commandLock) {
+                lockWaitNanos.add(System.nanoTime() - waitStart);
+                serializedCommands.increment();
+                activate();
+                Object result = super.call(target, method, args);
+                if (original instanceof WebDriver.TargetLocator && "window".equals(name)) {
+                    // The test switched windows itself - follow it
+                    handle = (String) args[0];
+                    handles.add(handle);
+                    activeHandle = handle;
+                }
+                return result;
+            }
+        }
+
+        /**
+         * Navigate the context's window, giving up after timeout.pageload like a classic get()
+         */
+        private void navigate(String url) {
+            BrowsingContext context = new BrowsingContext(browser, handle);
+            CompletableFuture<?> navigation = CompletableFuture.supplyAsync(
+                    () -> context.navigate(url, ReadinessState.COMPLETE), navigations);
+            try {
+                navigation.get(Config.getPageLoadTimeout(), TimeUnit.SECONDS);
+            } catch (java.util.concurrent.TimeoutException e) {
+                // Stop loading so the pending navigate returns, and keep the partly loaded page
+                try {
+                    new Script(handle, browser).evaluateFunctionInBrowsingContext(handle, "window.stop()", false,
+                            Optional.empty());
+                } catch (Exception ignored) {
+                }
+                throw new TimeoutException("Page load of " + url + " exceeded " + Config.getPageLoadTimeout() + " s");
+            } catch (ExecutionException e) {
+                throw e.getCause() instanceof RuntimeException
+                        ? (RuntimeException) e.getCause() : new WebDriverException(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new WebDriverException(e);
+            }
+        }
+
+        /**
+         * Top-level windows of this test's user context
+         */
+        private Set<String> windowHandles() {
+            Set<String> windowHandles = new LinkedHashSet<>();
+            for (BrowsingContextInfo info : new BrowsingContext(browser, handle).getTopLevelContexts()) {
+                if (userContext.equals(info.getUserContext())) {
+                    windowHandles.add(info.getId());
+                }
+            }
+            return windowHandles;
+        }
+
+        /**
+         * Run a script in the context's window through script.callFunction, failing after timeout.script
+         * An async script's callback (last argument) resolves the promise the call awaits.
+         */
+        private Object callScript(String script, List<LocalValue> arguments, boolean async) {
+            long timeoutMillis = TimeUnit.SECONDS.toMillis(Config.getScriptTimeout());
+            String body = async
+                    ? "new Promise(function (resolve) {\n"
+                    + "      (function () {\n" + script + "\n      }).apply(null, args.concat([resolve]));\n"
+                    + "    })"
+                    : "Promise.resolve((function () {\n" + script + "\n    }).apply(null, args))";
+            String function = "function () {\n"
+                    + "  var args = Array.prototype.slice.call(arguments);\n"
+                    + "  return Promise.race([\n"
+                    + "    " + body + ",\n"
+                    + "    new Promise(function (resolve, reject) {\n"
+                    + "      setTimeout(function () { reject(new Error('" + SCRIPT_TIMEOUT + "')); }, "
+                    + timeoutMillis + ");\n"
+                    + "    })\n"
+                    + "  ]);\n"
+                    + "}";
+            EvaluateResult result = new Script(handle, browser).callFunctionInBrowsingContext(handle, function, true,
+                    Optional.of(arguments), Optional.empty(), Optional.empty());
+            if (result.getResultType() == EvaluateResult.Type.EXCEPTION) {
+                String message = ((EvaluateResultExceptionValue) result).getExceptionDetails().getText();
+                if (message != null && message.contains(SCRIPT_TIMEOUT)) {
+                    throw new ScriptTimeoutException("Script exceeded " + Config.getScriptTimeout() + " s");
+                }
+                throw new JavascriptException(message);
+            }
+            return toJava(((EvaluateResultSuccess) result).getResult());
+        }
+
+        /**
+         * @return Script arguments as BiDi values, or null if one cannot be passed that way
+         */
+        private List<LocalValue> toLocalValues(Object[] args) {
+            List<LocalValue> values = new ArrayList<>();
+            for (Object arg : args == null ? new Object[0] : args) {
+                while (arg instanceof WrapsElement) {
+                    arg = ((WrapsElement) arg).getWrappedElement();
+                }
+                if (arg == null) {
+                    values.add(LocalValue.nullValue());
+                } else if (arg instanceof RemoteWebElement) {
+                    // Classic element ids are the nodes' BiDi shared ids
+                    values.add(new RemoteReference(RemoteReference.Type.SHARED_ID, ((RemoteWebElement) arg).getId()));
+                } else if (arg instanceof String || arg instanceof Number || arg instanceof Boolean) {
+                    values.add(LocalValue.getArgument(arg));
+                } else {
+                    return null;
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Convert a BiDi result the way classic executeAsyncScript returns it
+         */
+        private Object toJava(RemoteValue value) {
+            Object raw = value.getValue().orElse(null);
+            switch (value.getType()) {
+                case "node":
+                    RemoteWebElement element = new RemoteWebElement();
+                    element.setParent((RemoteWebDriver) browser);
+                    element.setId(value.getSharedId().orElseThrow());
+                    return createProxy(createDecorated(element), WebElement.class);
+                case "array":
+                case "set":
+                    List<Object> list = new ArrayList<>();
+                    for (Object item : (List<?>) raw) {
+                        list.add(toJava((RemoteValue) item));
+                    }
+                    return list;
+                case "object":
+                case "map":
+                    Map<String, Object> map = new LinkedHashMap<>();
+                    for (Map.Entry<?, ?> entry : ((Map<?, ?>) raw).entrySet()) {
+                        Object key = entry.getKey() instanceof RemoteValue
+                                ? toJava((RemoteValue) entry.getKey()) : entry.getKey();
+                        map.put(String.valueOf(key), toJava((RemoteValue) entry.getValue()));
+                    }
+                    return map;
+                case "number":
+                    // Classic results use Long for integral numbers
+                    if (raw instanceof Number && ((Number) raw).doubleValue() == Math.rint(((Number) raw).doubleValue())
+                            && !Double.isInfinite(((Number) raw).doubleValue())) {
+                        return ((Number) raw).longValue();
+                    }
+                    return raw;
+                case "undefined":
+                case "null":
+                    return null;
+                default:
+                    return raw;
+            }
+        }
+
+        private void activate() {
+            if (!handle.equals(activeHandle)) {
+                browser.switchTo().window(handle);
+                windowSwitches.increment();
+                activeHandle = handle;
+            }
+        }
+
+        private void closeContext() {
+            contexts.values().remove(this);
+            synchronized (commandLock) {
+                try {
+                    // Removing the user context closes all of its windows and drops its storage
+                    new Browser(browser).removeUserContext(userContext);
+                } catch (Exception e) {
+                    System.err.println("❌ Error closing browser context: " + e.getMessage());
+                }
+                activeHandle = null;
+            }
+        }
+    }
+}
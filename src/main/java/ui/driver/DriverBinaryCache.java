@@ -0,0 +1,259 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.Platform;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Persistent cache of resolved browser and driver binary paths
+ * Selenium Manager runs at most once per browser version; later sessions (and later JVMs)
+ * point Selenium straight at the cached driver via its webdriver.*.driver system property.
+ * In offline mode Selenium Manager is never invoked.
+ */
+public class DriverBinaryCache {
+
+    private static final Pattern VERSION = Pattern.compile("(\\d+(?:\\.\\d+)+)");
+    private static final Map<String, Binaries> resolved = new ConcurrentHashMap<>();
+
+    private DriverBinaryCache() {
+    }
+
+    /**
+     * Resolve binaries for a local browser, using the cache when possible
+     * Sets the driver's executable system property so Selenium skips its own lookup.
+     * @param browser Browser name (chrome, edge, firefox)
+     * @param serviceFactory Creates an (unstarted) service for the browser's driver
+     * @param options Browser options used for resolution on a cache miss
+     * @return Resolved binaries; browser path may be null
+     */
+    public static Binaries resolve(String browser, Supplier<DriverService> serviceFactory, Capabilities options) {
+        return resolved.computeIfAbsent(browser, b -> {
+            DriverService service = serviceFactory.get();
+            String driverProperty = service.getDriverProperty();
+            String preset = System.getProperty(driverProperty);
+            if (preset != null) {
+                // Explicitly configured by the user - nothing to resolve
+                return new Binaries(preset, null, null);
+            }
+
+            Binaries binaries = StartupProfiler.time(StartupProfiler.RESOLUTION,
+                    () -> lookupOrResolve(browser, service, options));
+            System.setProperty(driverProperty, binaries.driverPath);
+            return binaries;
+        });
+    }
+
+    private static synchronized Binaries lookupOrResolve(String browser, DriverService service, Capabilities options) {
+        Properties cache = load();
+        String version = Config.getBrowserVersion();
+        if (version.isEmpty()) {
+            version = cache.getProperty(browser + ".current", "");
+        }
+
+        Binaries cached = fromCache(cache, browser, version);
+        if (cached != null) {
+            System.out.println("📦 Using cached " + browser + " " + version + " driver: " + cached.driverPath);
+            return cached;
+        }
+
+        if (Config.isDriverOffline()) {
+            throw new IllegalStateException("❌ Offline mode: no cached driver for " + browser
+                    + (version.isEmpty() ? "" : " " + version) + " in " + cacheFile()
+                    + ". Run once online or set -D" + service.getDriverProperty());
+        }
+
+        DriverFinder finder = new DriverFinder(service, options);
+        String driverPath = finder.getDriverPath();
+        String browserPath = finder.hasBrowserPath() ? finder.getBrowserPath() : null;
+        String detected = detectVersion(browserPath);
+        String key = detected != null ? detected : (version.isEmpty() ? "unknown" : version);
+
+        Binaries binaries = new Binaries(driverPath, browserPath, key);
+        cache.setProperty(browser + "." + key + ".driver", driverPath);
+        if (browserPath != null) {
+            cache.setProperty(browser + "." + key + ".browser", browserPath);
+        }
+        cache.setProperty(browser + ".current", key);
+        store(cache);
+        System.out.println("📦 Cached " + browser + " " + key + " driver: " + driverPath);
+        return binaries;
+    }
+
+    /**
+     * Cached entry if its files still exist and the installed browser still has that version
+     */
+    private static Binaries fromCache(Properties cache, String browser, String version) {
+        if (version.isEmpty()) {
+            return null;
+        }
+        String driverPath = cache.getProperty(browser + "." + version + ".driver");
+        String browserPath = cache.getProperty(browser + "." + version + ".browser");
+        if (driverPath == null || !Files.isExecutable(Paths.get(driverPath))) {
+            return null;
+        }
+        if (browserPath != null) {
+            if (!Files.exists(Paths.get(browserPath))) {
+                return null;
+            }
+            String installed = detectVersion(browserPath);
+            if (installed != null && !installed.equals(version)) {
+                System.out.println("📦 " + browser + " was updated (" + version + " -> " + installed + ")");
+                return Config.isDriverOffline() ? fromCache(cache, browser, installed) : null;
+            }
+        }
+        return new Binaries(driverPath, browserPath, version);
+    }
+
+    /**
+     * Ask the browser binary for its version (local process, no network)
+     * Windows builds print nothing for --version (and may open a window), so there the version is
+     * read from the installation directory instead.
+     * @return Version string, or null when it cannot be determined
+     */
+    private static String detectVersion(String browserPath) {
+        if (browserPath == null) {
+            return null;
+        }
+        if (Platform.getCurrent().is(Platform.WINDOWS)) {
+            return detectInstalledVersion(Paths.get(browserPath).toAbsolutePath().getParent());
+        }
+        try {
+            Process process = new ProcessBuilder(browserPath, "--version").redirectErrorStream(true).start();
+            if (!process.waitFor(5, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                return null;
+            }
+            String output = new String(process.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            Matcher matcher = VERSION.matcher(output);
+            return matcher.find() ? matcher.group(1) : null;
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Version of a Windows installation: Firefox's application.ini, or the version-named directory
+     * Chrome and Edge keep next to their executable (the highest one while an update is pending)
+     */
+    private static String detectInstalledVersion(Path directory) {
+        if (directory == null) {
+            return null;
+        }
+        try {
+            Path applicationIni = directory.resolve("application.ini");
+            if (Files.exists(applicationIni)) {
+                for (String line : Files.readAllLines(applicationIni, StandardCharsets.UTF_8)) {
+                    if (line.startsWith("Version=")) {
+                        return line.substring("Version=".length()).trim();
+                    }
+                }
+            }
+            String highest = null;
+            try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, Files::isDirectory)) {
+                for (Path entry : entries) {
+                    String name = entry.getFileName().toString();
+                    if (name.matches("\\d+(\\.\\d+)+") && (highest == null || compareVersions(name, highest) > 0)) {
+                        highest = name;
+                    }
+                }
+            }
+            return highest;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private static int compareVersions(String a, String b) {
+        String[] left = a.split("\\.");
+        String[] right = b.split("\\.");
+        for (int i = 0; i < Math.max(left.length, right.length); i++) {
+            long l = i < left.length ? Long.parseLong(left[i]) : 0;
+            long r = i < right.length ? Long.parseLong(right[i]) : 0;
+            if (l != r) {
+                return Long.compare(l, r);
+            }
+        }
+        return 0;
+    }
+
+    private static Path cacheFile() {
+        return Paths.get(Config.getDriverCacheFile());
+    }
+
+    private static Properties load() {
+        Properties cache = new Properties();
+        Path file = cacheFile();
+        if (Files.exists(file)) {
+            try (InputStream in = Files.newInputStream(file)) {
+                cache.load(in);
+            } catch (IOException e) {
+                System.err.println("❌ Failed to read driver cache " + file + ": " + e.getMessage());
+            }
+        }
+        return cache;
+    }
+
+    private static void store(Properties cache) {
+        Path file = cacheFile();
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            // Write then rename so a parallel JVM never reads a half-written file
+            Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), "driver-paths", ".tmp");
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                cache.store(out, "Resolved WebDriver binaries");
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to write driver cache " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Resolved driver and browser binaries for one browser version
+     */
+    public static final class Binaries {
+        private final String driverPath;
+        private final String browserPath;
+        private final String browserVersion;
+
+        private Binaries(String driverPath, String browserPath, String browserVersion) {
+            this.driverPath = driverPath;
+            this.browserPath = browserPath;
+            this.browserVersion = browserVersion;
+        }
+
+        public String getDriverPath() {
+            return driverPath;
+        }
+
+        public String getBrowserPath() {
+            return browserPath;
+        }
+
+        public String getBrowserVersion() {
+            return browserVersion;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package ui.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Creates the next WebDriver in the background while the current test runs
+ * Each worker thread keeps one session "in the oven", launched by its own single-thread executor;
+ * acquire() usually only joins a finished future.
+ */
+public class DriverPrewarmer {
+
+    private static final AtomicInteger threadCounter = new AtomicInteger();
+    // Every executor created, so shutdown() can stop them
+    private static final Queue<ExecutorService> executors = new ConcurrentLinkedQueue<>();
+
+    // Sessions started before any worker thread asked for one (suite start), each with its executor
+    private static final Queue<Oven> seeded = new ConcurrentLinkedQueue<>();
+    // Background executor of each TestNG worker thread (adopted from a seeded session when there is one)
+    private static final ThreadLocal<ExecutorService> ovens = new ThreadLocal<>();
+    // Next session per TestNG worker thread
+    private static final ThreadLocal<CompletableFuture<Prewarmed>> next = new ThreadLocal<>();
+    private static volatile boolean closing;
+    // Every future not yet handed out, so shutdown() can quit orphans
+    private static final Map<CompletableFuture<Prewarmed>, Boolean> pending = new ConcurrentHashMap<>();
+
+    private static final LongAdder acquired = new LongAdder();
+    private static final LongAdder coldStarts = new LongAdder();
+    private static final LongAdder launchNanos = new LongAdder();
+    private static final LongAdder blockingNanos = new LongAdder();
+
+    private DriverPrewarmer() {
+    }
+
+    /**
+     * Start creating sessions ahead of time, typically one per worker thread at suite start
+     * @param count Number of sessions to pre-create
+     */
+    public static void warmUp(int count) {
+        for (int i = 0; i < count; i++) {
+            ExecutorService executor = newExecutor();
+            seeded.add(new Oven(executor, submit(executor)));
+        }
+        System.out.println("🔥 Pre-warming " + count + " WebDriver session(s) in background");
+    }
+
+    /**
+     * Get a ready (or nearly ready) session and schedule the next one for this thread
+     * @param testsLeft Tests that have not asked for a session yet; no next session is launched when the
+     *                  sessions already in the oven cover them (it would only be quit at shutdown)
+     * @return WebDriver owned by the caller
+     */
+    public static WebDriver acquire(int testsLeft) {
+        CompletableFuture<Prewarmed> future = next.get();
+        next.remove();
+        if (future == null) {
+            Oven oven = seeded.poll();
+            if (oven != null) {
+                future = oven.future;
+                if (ovens.get() == null) {
+                    ovens.set(oven.executor);
+                }
+            }
+        }
+
+        long start = System.nanoTime();
+        WebDriver driver = null;
+        if (future != null) {
+            pending.remove(future);
+            try {
+                Prewarmed prewarmed = future.join();
+                driver = prewarmed.driver;
+                launchNanos.add(prewarmed.launchNanos);
+            } catch (CompletionException e) {
+                System.err.println("❌ Background WebDriver creation failed, creating synchronously: "
+                        + e.getCause().getMessage());
+            }
+        }
+        if (driver == null) {
+            long launchStart = System.nanoTime();
+            driver = WebDriverFactory.createDriver();
+            launchNanos.add(System.nanoTime() - launchStart);
+            coldStarts.increment();
+        }
+        blockingNanos.add(System.nanoTime() - start);
+        acquired.increment();
+
+        if (!closing && testsLeft > pending.size()) {
+            if (ovens.get() == null) {
+                ovens.set(newExecutor());
+            }
+            next.set(submit(ovens.get()));
+        }
+        return driver;
+    }
+
+    /**
+     * Quit sessions that were pre-created but never used and print launch statistics
+     */
+    public static void shutdown() {
+        closing = true;
+        for (CompletableFuture<Prewarmed> future : pending.keySet()) {
+            future.thenAccept(prewarmed -> WebDriverFactory.quitDriver(prewarmed.driver));
+        }
+        // Wait for in-flight launches so their browsers do not outlive the JVM
+        CompletableFuture.allOf(pending.keySet().toArray(new CompletableFuture<?>[0]))
+                .exceptionally(e -> null)
+                .join();
+        pending.clear();
+        seeded.clear();
+        executors.forEach(ExecutorService::shutdown);
+        printStatistics();
+    }
+
+    /**
+     * Launch time that overlapped with test execution instead of blocking setUp
+     */
+    public static double getHiddenLaunchMillis() {
+        return Math.max(0, launchNanos.sum() - blockingNanos.sum()) / 1_000_000.0;
+    }
+
+    /**
+     * Time setUp actually spent waiting for a session
+     */
+    public static double getBlockingMillis() {
+        return blockingNanos.sum() / 1_000_000.0;
+    }
+
+    public static void printStatistics() {
+        double launchMillis = launchNanos.sum() / 1_000_000.0;
+        double hiddenPercent = launchMillis == 0 ? 0 : getHiddenLaunchMillis() / launchMillis * 100;
+        System.out.println("\n=== WebDriver Pre-warm Statistics ===");
+        System.out.println("Sessions acquired: " + acquired.sum() + " (cold starts: " + coldStarts.sum() + ")");
+        System.out.printf("Launch time: %.0f ms total, %.0f ms hidden (%.1f%%), %.0f ms blocking%n",
+                launchMillis, getHiddenLaunchMillis(), hiddenPercent, getBlockingMillis());
+        System.out.println("=====================================\n");
+    }
+
+    private static ExecutorService newExecutor() {
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "driver-prewarm-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executors.add(executor);
+        return executor;
+    }
+
+    private static CompletableFuture<Prewarmed> submit(ExecutorService executor) {
+        CompletableFuture<Prewarmed> future = CompletableFuture.supplyAsync(() -> {
+            long start = System.nanoTime();
+            WebDriver driver = WebDriverFactory.createDriver();
+            return new Prewarmed(driver, System.nanoTime() - start);
+        }, executor);
+        pending.put(future, Boolean.TRUE);
+        return future;
+    }
+
+    private static final class Oven {
+        private final ExecutorService executor;
+        private final CompletableFuture<Prewarmed> future;
+
+        private Oven(ExecutorService executor, CompletableFuture<Prewarmed> future) {
+            this.executor = executor;
+            this.future = future;
+        }
+    }
+
+    private static final class Prewarmed {
+        private final WebDriver driver;
+        private final long launchNanos;
+
+        private Prewarmed(WebDriver driver, long launchNanos) {
+            this.driver = driver;
+            this.launchNanos = launchNanos;
+        }
+    }
+}
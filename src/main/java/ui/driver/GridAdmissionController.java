@@ -0,0 +1,274 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.json.Json;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Client-side admission control for Selenium Grid sessions
+ * Polls the grid's /status endpoint and only lets a thread request a new session
+ * when a matching slot is free, staggering requests to avoid thundering-herd ramp-up.
+ */
+public class GridAdmissionController {
+
+    private static final Map<String, GridAdmissionController> controllers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Long> lastQueueWaitMillis = ThreadLocal.withInitial(() -> 0L);
+    private static final Json JSON = new Json();
+
+    private final URI statusUri;
+    private final String browserName;
+    private final long pollIntervalMillis;
+    private final long staggerMillis;
+    private final Duration admissionTimeout;
+    private final HttpClient httpClient;
+
+    private final Object lock = new Object();
+    // Sessions admitted by this JVM that the grid may not report as busy yet
+    private int creating;
+    private int cachedFreeSlots = -1;
+    private long cachedAtNanos;
+    private long invalidations;
+    private long nextStartNanos;
+
+    private final LongAdder admissions = new LongAdder();
+    private final LongAdder queued = new LongAdder();
+    private final LongAdder totalWaitMillis = new LongAdder();
+    private final AtomicLong maxWaitMillis = new AtomicLong();
+
+    public GridAdmissionController(URI statusUri, String browserName, long pollIntervalMillis,
+                                   long staggerMillis, Duration admissionTimeout) {
+        this.statusUri = statusUri;
+        this.browserName = browserName;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.staggerMillis = staggerMillis;
+        this.admissionTimeout = admissionTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(Config.getGridHttpConnectTimeout()))
+                .build();
+    }
+
+    /**
+     * Get the controller for a grid URL and browser, configured from Config
+     * @param gridUrl Grid URL as configured in grid.url
+     * @param browser Browser name as configured in browser
+     */
+    public static GridAdmissionController forGrid(String gridUrl, String browser) {
+        String key = gridUrl + "|" + browser;
+        return controllers.computeIfAbsent(key, k -> new GridAdmissionController(
+                URI.create(Config.getGridStatusUrl()),
+                toGridBrowserName(browser),
+                Config.getGridStatusPollInterval(),
+                Config.getGridSessionStagger(),
+                Duration.ofSeconds(Config.getGridAdmissionTimeout())));
+    }
+
+    /**
+     * Queue wait of the last session admitted on the current thread
+     */
+    public static long getLastQueueWaitMillis() {
+        return lastQueueWaitMillis.get();
+    }
+
+    public static void printStatistics() {
+        controllers.forEach((key, controller) -> {
+            System.out.println("\n=== Grid Admission (" + controller.browserName + ") ===");
+            System.out.println(controller.statisticsSummary());
+            System.out.println("==============================\n");
+        });
+    }
+
+    /**
+     * Wait for a free grid slot, then create the session
+     * @param sessionCreator Performs the actual new-session request
+     * @return Whatever the creator returns
+     */
+    public <T> T admit(Supplier<T> sessionCreator) {
+        long start = System.nanoTime();
+        long deadline = start + admissionTimeout.toNanos();
+        boolean reserved = false;
+        boolean waited = false;
+
+        while (!reserved) {
+            int free = freeSlots();
+            synchronized (lock) {
+                if (free < 0 || free - creating > 0) {
+                    // free < 0: status unavailable or no matching nodes (e.g. autoscaling grid) - do not gate
+                    creating++;
+                    reserved = true;
+                    continue;
+                }
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("❌ No free " + browserName + " grid slot after "
+                        + admissionTimeout.toSeconds() + "s (" + statusUri + ")");
+            }
+            waited = true;
+            sleepMillis(pollIntervalMillis);
+        }
+
+        try {
+            sleepUntilStaggerSlot();
+            long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            recordWait(waitMillis, waited);
+            return sessionCreator.get();
+        } finally {
+            synchronized (lock) {
+                creating--;
+                // Force a fresh /status read so the new session is counted as busy
+                cachedAtNanos = 0;
+                invalidations++;
+            }
+        }
+    }
+
+    public long getAdmissions() {
+        return admissions.sum();
+    }
+
+    public long getQueuedAdmissions() {
+        return queued.sum();
+    }
+
+    public double getAverageWaitMillis() {
+        long count = getAdmissions();
+        return count == 0 ? 0.0 : (double) totalWaitMillis.sum() / count;
+    }
+
+    public long getMaxWaitMillis() {
+        return maxWaitMillis.get();
+    }
+
+    // ======================
+    // Internal Helpers
+    // ======================
+    private int freeSlots() {
+        long invalidationsBeforeFetch;
+        synchronized (lock) {
+            if (cachedAtNanos != 0
+                    && System.nanoTime() - cachedAtNanos < TimeUnit.MILLISECONDS.toNanos(pollIntervalMillis)) {
+                return cachedFreeSlots;
+            }
+            invalidationsBeforeFetch = invalidations;
+        }
+        int free = fetchFreeSlots();
+        synchronized (lock) {
+            // A session created while we were fetching makes this snapshot stale - use it once, don't cache it
+            if (invalidations == invalidationsBeforeFetch) {
+                cachedFreeSlots = free;
+                cachedAtNanos = System.nanoTime();
+            }
+        }
+        return free;
+    }
+
+    /**
+     * Read /status and count idle slots for our browser on nodes that are UP
+     * @return Number of free slots, or -1 when the grid cannot tell us
+     */
+    @SuppressWarnings("unchecked")
+    private int fetchFreeSlots() {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(statusUri)
+                    .timeout(Duration.ofSeconds(Config.getGridHttpConnectTimeout()))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return -1;
+            }
+
+            Map<String, Object> body = JSON.toType(response.body(), Map.class);
+            Map<String, Object> value = (Map<String, Object>) body.get("value");
+            List<Map<String, Object>> nodes = value == null ? null : (List<Map<String, Object>>) value.get("nodes");
+            if (nodes == null) {
+                return -1;
+            }
+
+            int matching = 0;
+            int free = 0;
+            for (Map<String, Object> node : nodes) {
+                if (!"UP".equals(node.get("availability"))) {
+                    continue;
+                }
+                List<Map<String, Object>> slots = (List<Map<String, Object>>) node.get("slots");
+                if (slots == null) {
+                    continue;
+                }
+                for (Map<String, Object> slot : slots) {
+                    Map<String, Object> stereotype = (Map<String, Object>) slot.get("stereotype");
+                    if (stereotype == null || !browserName.equalsIgnoreCase(String.valueOf(stereotype.get("browserName")))) {
+                        continue;
+                    }
+                    matching++;
+                    if (slot.get("session") == null) {
+                        free++;
+                    }
+                }
+            }
+            return matching == 0 ? -1 : free;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            System.err.println("❌ Could not read grid status from " + statusUri + ": " + e.getMessage());
+            return -1;
+        }
+    }
+
+    private void sleepUntilStaggerSlot() {
+        long startAt;
+        synchronized (lock) {
+            long now = System.nanoTime();
+            startAt = Math.max(now, nextStartNanos);
+            nextStartNanos = startAt + TimeUnit.MILLISECONDS.toNanos(staggerMillis);
+        }
+        long delay = TimeUnit.NANOSECONDS.toMillis(startAt - System.nanoTime());
+        if (delay > 0) {
+            sleepMillis(delay);
+        }
+    }
+
+    private void recordWait(long waitMillis, boolean waited) {
+        admissions.increment();
+        if (waited) {
+            queued.increment();
+        }
+        totalWaitMillis.add(waitMillis);
+        maxWaitMillis.accumulateAndGet(waitMillis, Math::max);
+        lastQueueWaitMillis.set(waitMillis);
+        StartupProfiler.record(StartupProfiler.ADMISSION, TimeUnit.MILLISECONDS.toNanos(waitMillis));
+    }
+
+    private String statisticsSummary() {
+        return String.format("Admissions: %d (queued %d), wait avg %.0f ms, max %d ms",
+                getAdmissions(), getQueuedAdmissions(), getAverageWaitMillis(), getMaxWaitMillis());
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("❌ Interrupted while waiting for a grid slot", e);
+        }
+    }
+
+    private static String toGridBrowserName(String browser) {
+        return switch (browser.toLowerCase()) {
+            case "edge" -> "MicrosoftEdge";
+            default -> browser.toLowerCase();
+        };
+    }
+}
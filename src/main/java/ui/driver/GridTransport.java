@@ -0,0 +1,167 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.Filter;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * HTTP transport used by RemoteWebDriver in grid/docker mode
+ * One keep-alive HTTP client per grid URL is shared by every remote session in the JVM,
+ * and every WebDriver command's round trip is timed.
+ */
+public class GridTransport {
+
+    private static final Map<String, HttpClient> sharedClients = new ConcurrentHashMap<>();
+    private static final Map<String, CommandLatency> latencies = new ConcurrentHashMap<>();
+    // jdk.httpclient.* pool settings are applied by Config, before any client exists
+    private static final HttpClient.Factory delegateFactory = HttpClient.Factory.createDefault();
+
+    private GridTransport() {
+    }
+
+    /**
+     * Build the command executor for a new remote session
+     * @param gridUrl Grid hub / standalone URL
+     */
+    public static HttpCommandExecutor createCommandExecutor(URL gridUrl) {
+        return new HttpCommandExecutor(Collections.emptyMap(), clientConfig(gridUrl), GridTransport::sharedClient);
+    }
+
+    /**
+     * Client settings for the grid, taken from Config
+     */
+    public static ClientConfig clientConfig(URL gridUrl) {
+        return ClientConfig.defaultConfig()
+                .baseUrl(gridUrl)
+                .connectionTimeout(Duration.ofSeconds(Config.getGridHttpConnectTimeout()))
+                .readTimeout(Duration.ofSeconds(Config.getGridHttpReadTimeout()))
+                .version(Config.isGridHttp2Enabled() ? "HTTP_2" : "HTTP_1_1")
+                .withFilter(latencyFilter());
+    }
+
+    public static Map<String, CommandLatency> getLatencies() {
+        return Collections.unmodifiableMap(latencies);
+    }
+
+    public static void printLatencySummary() {
+        if (latencies.isEmpty()) {
+            return;
+        }
+        System.out.println("\n=== Grid Command Latency ===");
+        latencies.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue(Comparator.comparingLong(CommandLatency::getTotalNanos).reversed()))
+                .forEach(entry -> System.out.println(entry.getKey() + " -> " + entry.getValue()));
+        System.out.println("============================\n");
+    }
+
+    private static HttpClient sharedClient(ClientConfig config) {
+        String key = config.baseUri().toString();
+        return sharedClients.computeIfAbsent(key, k -> new NonClosingClient(delegateFactory.createClient(config)));
+    }
+
+    private static Filter latencyFilter() {
+        return next -> request -> {
+            long start = System.nanoTime();
+            try {
+                return next.execute(request);
+            } finally {
+                latencies.computeIfAbsent(commandKey(request), k -> new CommandLatency())
+                        .record(System.nanoTime() - start);
+            }
+        };
+    }
+
+    /**
+     * Collapse session / element ids so the same command aggregates across sessions
+     */
+    private static String commandKey(HttpRequest request) {
+        String path = request.getUri()
+                .replaceAll("/session/[^/]+", "/session/{id}")
+                .replaceAll("/(element|shadow|window)/[^/]+", "/$1/{id}");
+        return request.getMethod() + " " + path;
+    }
+
+    /**
+     * Round-trip statistics for one WebDriver command
+     */
+    public static final class CommandLatency {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        private void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public long getTotalNanos() {
+            return totalNanos.sum();
+        }
+
+        public double getAverageMillis() {
+            long calls = getCount();
+            return calls == 0 ? 0.0 : getTotalNanos() / 1_000_000.0 / calls;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos.get() / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d calls, avg %.1f ms, max %.1f ms, total %.0f ms",
+                    getCount(), getAverageMillis(), getMaxMillis(), getTotalNanos() / 1_000_000.0);
+        }
+    }
+
+    /**
+     * Keeps the shared client (and its connection pool) alive when a session quits
+     */
+    private static final class NonClosingClient implements HttpClient {
+        private final HttpClient delegate;
+
+        private NonClosingClient(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return delegate.execute(request);
+        }
+
+        @Override
+        public CompletableFuture<HttpResponse> executeAsync(HttpRequest request) {
+            return delegate.executeAsync(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Shared across sessions - intentionally left open until JVM exit
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package ui.driver;
+
+import org.openqa.selenium.WebDriver;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Initial navigation of a test, deferred until something needs a loaded page
+ * Most tests navigate to their own page straight away; the pending base-URL load is then
+ * dropped instead of loading two pages.
+ */
+public class LazyNavigation {
+
+    private static final Map<WebDriver, String> pending = new ConcurrentHashMap<>();
+    private static final LongAdder avoided = new LongAdder();
+    private static final LongAdder performed = new LongAdder();
+    private static final LongAdder direct = new LongAdder();
+
+    private LazyNavigation() {
+    }
+
+    /**
+     * Remember the URL the session should show once a page is needed
+     */
+    public static void defer(WebDriver driver, String url) {
+        pending.put(driver, url);
+    }
+
+    /**
+     * Whether the session still has its start page to load
+     */
+    public static boolean isPending(WebDriver driver) {
+        return !pending.isEmpty() && pending.containsKey(driver);
+    }
+
+    /**
+     * Load the start URL right away (declared by the test, so it is the page it needs)
+     */
+    public static void navigateNow(WebDriver driver, String url) {
+        pending.remove(driver);
+        load(driver, url);
+        direct.increment();
+    }
+
+    /**
+     * Perform the deferred navigation, if any (call before any command that reads or acts on the page)
+     * @return true if a navigation was performed
+     */
+    public static boolean ensureNavigated(WebDriver driver) {
+        if (pending.isEmpty()) {
+            return false;
+        }
+        String url = pending.remove(driver);
+        if (url == null) {
+            return false;
+        }
+        System.out.println("🧭 Loading deferred start page " + url);
+        load(driver, url);
+        performed.increment();
+        return true;
+    }
+
+    /**
+     * Drop the deferred navigation because the caller navigates elsewhere (or the test is over)
+     */
+    public static void cancel(WebDriver driver) {
+        if (!pending.isEmpty() && pending.remove(driver) != null) {
+            avoided.increment();
+        }
+    }
+
+    public static void printStatistics() {
+        if (avoided.sum() + performed.sum() + direct.sum() > 0) {
+            System.out.println("🧭 Initial navigations: " + avoided.sum() + " avoided, " + performed.sum()
+                    + " loaded on first use, " + direct.sum() + " straight to the declared start URL");
+        }
+    }
+
+    private static void load(WebDriver driver, String url) {
+        long start = System.nanoTime();
+        StartupProfiler.time(StartupProfiler.INITIAL_NAVIGATION, () -> {
+            driver.get(url);
+            // readyState is complete long before the SPA's XHRs finish
+            NetworkIdleMonitor.waitForIdle(driver);
+        });
+        ProfileTemplate.recordFirstLoad(driver, System.nanoTime() - start);
+    }
+}
@@ -0,0 +1,337 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Event;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Network;
+import org.openqa.selenium.bidi.network.AddInterceptParameters;
+import org.openqa.selenium.bidi.network.ContinueRequestParameters;
+import org.openqa.selenium.bidi.network.InterceptPhase;
+import org.openqa.selenium.bidi.network.UrlPattern;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Blocks unneeded network traffic through WebDriver BiDi request interception
+ * Works the same for Chrome, Edge and Firefox. Profiles (network.block.profile):
+ * images, media, fonts, trackers, lite (all of them); plus a glob denylist (network.block.urls).
+ *
+ * All blocking happens before the request is sent. Trackers and denylisted URLs are intercepted
+ * through BiDi URL patterns, so other requests are never paused for them. BiDi patterns match
+ * each URL part exactly, so images, media and fonts cannot be narrowed that way: for those every
+ * request is paused once and failed by its destination (or file extension). Responses are never
+ * intercepted.
+ */
+public class NetworkBlocker {
+
+    private static final Map<WebDriver, NetworkBlocker> blockers = new ConcurrentHashMap<>();
+
+    private static final Set<String> PROFILES = Set.of("images", "media", "fonts", "trackers", "lite");
+    // Exact hosts (optionally host/path) the common analytics and ad scripts load from
+    private static final List<String> TRACKERS = List.of(
+            "www.google-analytics.com", "ssl.google-analytics.com", "region1.google-analytics.com",
+            "www.googletagmanager.com", "stats.g.doubleclick.net", "googleads.g.doubleclick.net",
+            "ad.doubleclick.net", "pagead2.googlesyndication.com", "tpc.googlesyndication.com",
+            "adservice.google.com", "connect.facebook.net", "www.facebook.com/tr", "www.facebook.com/tr/",
+            "static.hotjar.com", "script.hotjar.com", "www.clarity.ms", "cdn.segment.com", "api.segment.io",
+            "cdn.mxpnl.com", "api-js.mixpanel.com", "js-agent.newrelic.com", "bam.nr-data.net",
+            "bam-cell.nr-data.net", "sb.scorecardresearch.com");
+    // Request destinations (Fetch spec) and file extensions per resource category
+    private static final Map<String, Set<String>> DESTINATIONS = Map.of(
+            "images", Set.of("image"),
+            "media", Set.of("audio", "video", "track"),
+            "fonts", Set.of("font"));
+    private static final Map<String, Set<String>> EXTENSIONS = Map.of(
+            "images", Set.of("png", "jpg", "jpeg", "gif", "webp", "avif", "svg", "ico", "bmp"),
+            "media", Set.of("mp4", "webm", "ogg", "mp3", "wav", "m4a", "m3u8", "vtt"),
+            "fonts", Set.of("woff", "woff2", "ttf", "otf", "eot"));
+    private static final Pattern URL_GLOB = Pattern.compile("(\\*|[a-zA-Z][a-zA-Z0-9+.-]*)://([^/*?:]+)(?::(\\d+))?(/.*)?");
+
+    private final BiDi bidi;
+    private final Network network;
+    private final Set<String> categories;
+    private final List<Pattern> denylist;
+    private final List<String> denylistGlobs;
+    private final List<Long> listeners = new ArrayList<>();
+    private final List<String> intercepts = new ArrayList<>();
+    // browsing context id -> requests blocked there, per category
+    private final Map<String, Map<String, LongAdder>> blockedByContext = new ConcurrentHashMap<>();
+
+    private NetworkBlocker(WebDriver driver, Set<String> categories, List<String> denylistGlobs) {
+        this.bidi = ((HasBiDi) driver).getBiDi();
+        this.network = new Network(driver);
+        this.categories = categories;
+        this.denylistGlobs = denylistGlobs;
+        this.denylist = new ArrayList<>();
+        for (String glob : denylistGlobs) {
+            denylist.add(globToPattern(glob));
+        }
+    }
+
+    /**
+     * Whether Config asks for any blocking (and therefore needs BiDi)
+     */
+    public static boolean isConfigured() {
+        return !configuredCategories().isEmpty() || !Config.getNetworkBlockUrls().isEmpty();
+    }
+
+    /**
+     * Install the configured blocking profile on a new session
+     * @param driver Session created with BiDi enabled
+     */
+    public static void install(WebDriver driver) {
+        if (!isConfigured()) {
+            return;
+        }
+        if (!(driver instanceof HasBiDi)) {
+            System.err.println("❌ Network blocking needs WebDriver BiDi - session does not support it");
+            return;
+        }
+        NetworkBlocker blocker = new NetworkBlocker(driver, configuredCategories(), Config.getNetworkBlockUrls());
+        blocker.start();
+        blockers.put(driver, blocker);
+        System.out.println("🚫 Network blocking enabled: " + blocker.categories
+                + (blocker.denylist.isEmpty() ? "" : " + " + blocker.denylist.size() + " URL pattern(s)"));
+    }
+
+    /**
+     * Stop intercepting for a session that is about to quit
+     */
+    public static void uninstall(WebDriver driver) {
+        NetworkBlocker blocker = blockers.remove(driver);
+        if (blocker != null) {
+            try {
+                // Only our own listeners and intercepts - closing the module would unsubscribe the
+                // events for everyone on the connection
+                blocker.listeners.forEach(blocker.bidi::removeListener);
+                blocker.intercepts.forEach(blocker.network::removeIntercept);
+            } catch (Exception ignored) {
+                // Session is going away anyway
+            }
+        }
+    }
+
+    /**
+     * Counters for a session since the last reset, then reset them (one call per test)
+     * A browser context driver gets the counters of its own windows from the shared browser's blocker.
+     * @return Blocked request count per category, empty if blocking is off
+     */
+    public static Map<String, Long> drainStatistics(WebDriver driver) {
+        NetworkBlocker blocker = blockers.get(driver);
+        Set<String> contexts = null;
+        if (blocker == null && BrowserContextManager.hostOf(driver) != null) {
+            blocker = blockers.get(BrowserContextManager.hostOf(driver));
+            contexts = BrowserContextManager.browsingContextsOf(driver);
+        }
+        Map<String, Long> stats = new TreeMap<>();
+        if (blocker != null) {
+            for (String context : contexts == null ? Set.copyOf(blocker.blockedByContext.keySet()) : contexts) {
+                Map<String, LongAdder> blocked = blocker.blockedByContext.remove(context);
+                if (blocked != null) {
+                    blocked.forEach((category, count) -> stats.merge(category, count.sum(), Long::sum));
+                }
+            }
+        }
+        return stats;
+    }
+
+    // ======================
+    // Interception
+    // ======================
+    private void start() {
+        boolean resources = categories.contains("images") || categories.contains("media")
+                || categories.contains("fonts");
+        List<UrlPattern> patterns = new ArrayList<>();
+        if (categories.contains("trackers")) {
+            for (String tracker : TRACKERS) {
+                patterns.add(trackerPattern(tracker));
+            }
+        }
+        boolean unmatchedGlob = false;
+        for (String glob : denylistGlobs) {
+            UrlPattern pattern = toUrlPattern(glob);
+            if (pattern != null) {
+                patterns.add(pattern);
+            } else {
+                unmatchedGlob = true;
+                if (!resources) {
+                    System.err.println("❌ network.block.urls entry " + glob
+                            + " is not a plain scheme://host[/path] - every request is paused to check it");
+                }
+            }
+        }
+        if (!resources && !unmatchedGlob && patterns.isEmpty()) {
+            return;
+        }
+        listeners.add(bidi.addListener(new Event<>("network.beforeRequestSent", params -> params), this::onRequest));
+        if (resources || unmatchedGlob) {
+            // Destinations cannot be expressed as URL patterns - pause every request once
+            intercepts.add(network.addIntercept(new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT)));
+        } else {
+            intercepts.add(network.addIntercept(
+                    new AddInterceptParameters(InterceptPhase.BEFORE_REQUEST_SENT).urlPatterns(patterns)));
+        }
+    }
+
+    /**
+     * Raw beforeRequestSent parameters: the typed event has no request destination
+     */
+    private void onRequest(Map<String, Object> event) {
+        if (!Boolean.TRUE.equals(event.get("isBlocked"))) {
+            return;
+        }
+        Map<?, ?> request = (Map<?, ?>) event.get("request");
+        String requestId = String.valueOf(request.get("request"));
+        String url = String.valueOf(request.get("url"));
+        try {
+            String category = requestCategory(url, (String) request.get("destination"));
+            if (category != null) {
+                block(String.valueOf(event.get("context")), requestId, category);
+            } else {
+                network.continueRequest(new ContinueRequestParameters(requestId));
+            }
+        } catch (Exception e) {
+            System.err.println("❌ Network interception failed for " + url + ": " + e.getMessage());
+            release(requestId, () -> network.continueRequest(new ContinueRequestParameters(requestId)));
+        }
+    }
+
+    private void block(String contextId, String requestId, String category) {
+        network.failRequest(requestId);
+        blockedByContext.computeIfAbsent(contextId, c -> new ConcurrentHashMap<>())
+                .computeIfAbsent(category, c -> new LongAdder()).increment();
+    }
+
+    /**
+     * Never leave an intercepted request paused: resume it, or fail it when that is not possible
+     */
+    private void release(String requestId, Runnable resume) {
+        try {
+            resume.run();
+        } catch (Exception e) {
+            try {
+                network.failRequest(requestId);
+            } catch (Exception ignored) {
+                // Request is gone already (e.g. the page navigated away)
+            }
+        }
+    }
+
+    private String requestCategory(String url, String destination) {
+        for (Pattern pattern : denylist) {
+            if (pattern.matcher(url).matches()) {
+                return "denylist";
+            }
+        }
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (categories.contains("trackers") && isTracker(uri)) {
+            return "trackers";
+        }
+        String path = uri.getPath() == null ? "" : uri.getPath().toLowerCase();
+        String extension = path.contains(".") ? path.substring(path.lastIndexOf('.') + 1) : "";
+        for (String category : List.of("images", "media", "fonts")) {
+            if (categories.contains(category) && (DESTINATIONS.get(category).contains(destination)
+                    || EXTENSIONS.get(category).contains(extension))) {
+                return category;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isTracker(URI uri) {
+        if (uri.getHost() == null) {
+            return false;
+        }
+        String host = uri.getHost().toLowerCase();
+        for (String tracker : TRACKERS) {
+            int slash = tracker.indexOf('/');
+            if (slash < 0 ? host.equals(tracker)
+                    : host.equals(tracker.substring(0, slash)) && tracker.substring(slash).equals(uri.getPath())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static UrlPattern trackerPattern(String tracker) {
+        int slash = tracker.indexOf('/');
+        return slash < 0 ? new UrlPattern().hostname(tracker)
+                : new UrlPattern().hostname(tracker.substring(0, slash)).pathname(tracker.substring(slash));
+    }
+
+    /**
+     * BiDi URL pattern for a denylist glob, if it has one
+     * BiDi matches each URL part exactly, so only [scheme|*]://host[:port][/path | /*] globs translate.
+     * @return null if the glob needs a wildcard inside host or path
+     */
+    static UrlPattern toUrlPattern(String glob) {
+        Matcher matcher = URL_GLOB.matcher(glob);
+        if (!matcher.matches()) {
+            return null;
+        }
+        UrlPattern pattern = new UrlPattern().hostname(matcher.group(2));
+        if (!"*".equals(matcher.group(1))) {
+            pattern.protocol(matcher.group(1));
+        }
+        if (matcher.group(3) != null) {
+            pattern.port(matcher.group(3));
+        }
+        String path = matcher.group(4);
+        if (path != null && !"/*".equals(path)) {
+            if (path.contains("*") || path.contains("?")) {
+                return null;
+            }
+            pattern.pathname(path);
+        }
+        return pattern;
+    }
+
+    private static Set<String> configuredCategories() {
+        Set<String> categories = new TreeSet<>();
+        for (String profile : Config.getNetworkBlockProfiles()) {
+            if (!PROFILES.contains(profile)) {
+                if (!"none".equals(profile)) {
+                    System.err.println("❌ Unknown network blocking profile: " + profile);
+                }
+                continue;
+            }
+            if ("lite".equals(profile)) {
+                categories.addAll(List.of("images", "media", "fonts", "trackers"));
+            } else {
+                categories.add(profile);
+            }
+        }
+        return categories;
+    }
+
+    /**
+     * Convert a simple glob (* wildcard) to a full-URL regex
+     */
+    static Pattern globToPattern(String glob) {
+        StringBuilder regex = new StringBuilder();
+        for (String part : glob.split("\\*", -1)) {
+            if (regex.length() > 0) {
+                regex.append(".*");
+            }
+            regex.append(Pattern.quote(part));
+        }
+        return Pattern.compile(regex.toString(), Pattern.CASE_INSENSITIVE);
+    }
+}
@@ -0,0 +1,196 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.BiDi;
+import org.openqa.selenium.bidi.Event;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.network.BaseParameters;
+import org.openqa.selenium.bidi.network.BeforeRequestSent;
+import org.openqa.selenium.bidi.network.FetchError;
+import org.openqa.selenium.bidi.network.ResponseDetails;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+/**
+ * Network-idle condition driven by WebDriver BiDi network events
+ * Tracks in-flight requests per browsing context; waiting threads are woken by the events
+ * themselves, so no command is sent to the browser while waiting.
+ */
+public class NetworkIdleMonitor {
+
+    private static final Map<WebDriver, NetworkIdleMonitor> monitors = new ConcurrentHashMap<>();
+    private static final LongAdder waits = new LongAdder();
+    private static final LongAdder totalIdleNanos = new LongAdder();
+    private static final LongAdder timeouts = new LongAdder();
+    private static final ThreadLocal<Long> lastWaitMillis = ThreadLocal.withInitial(() -> 0L);
+
+    private final BiDi bidi;
+    private final List<Long> listeners = new ArrayList<>();
+    private final List<Pattern> ignored;
+    // request id -> browsing context id, guarded by this
+    private final Map<String, String> inFlight = new HashMap<>();
+    // browsing context id -> last time a request started or finished there, guarded by this
+    private final Map<String, Long> lastActivity = new HashMap<>();
+
+    private NetworkIdleMonitor(WebDriver driver, List<Pattern> ignored) {
+        this.ignored = ignored;
+        // Context drivers share the browser's connection, so listeners are added (and later removed)
+        // one by one instead of through the Network module, whose close() unsubscribes everyone
+        this.bidi = ((HasBiDi) driver).getBiDi();
+        listeners.add(bidi.addListener(
+                new Event<>("network.beforeRequestSent", BeforeRequestSent::fromJsonMap), this::started));
+        listeners.add(bidi.addListener(
+                new Event<>("network.responseCompleted", ResponseDetails::fromJsonMap), this::finished));
+        listeners.add(bidi.addListener(
+                new Event<>("network.fetchError", FetchError::fromJsonMap), this::finished));
+    }
+
+    /**
+     * Monitor for a session, subscribing on first use
+     * Call before navigating so requests started by the navigation are seen.
+     * @return null when network idle is disabled or the session has no BiDi connection
+     */
+    public static NetworkIdleMonitor forDriver(WebDriver driver) {
+        if (!Config.isNetworkIdleEnabled() || !(driver instanceof HasBiDi)) {
+            return null;
+        }
+        return monitors.computeIfAbsent(driver, d -> {
+            List<Pattern> ignored = new ArrayList<>();
+            for (String glob : Config.getNetworkIdleIgnoreUrls()) {
+                ignored.add(NetworkBlocker.globToPattern(glob));
+            }
+            return new NetworkIdleMonitor(d, ignored);
+        });
+    }
+
+    /**
+     * Wait for the session's current window to go network-idle (network.idle.quiet / network.idle.timeout)
+     * @return Milliseconds waited; 0 when network idle is disabled or unsupported
+     */
+    public static long waitForIdle(WebDriver driver) {
+        lastWaitMillis.set(0L);
+        NetworkIdleMonitor monitor = forDriver(driver);
+        if (monitor == null) {
+            return 0;
+        }
+        String context = driver.getWindowHandle();
+        Duration timeout = Duration.ofMillis(Config.getNetworkIdleTimeout());
+        long waited = monitor.awaitIdle(context, Duration.ofMillis(Config.getNetworkIdleQuiet()), timeout);
+        if (waited < 0) {
+            System.err.println("❌ Network not idle after " + timeout.toMillis() + "ms, "
+                    + monitor.getInFlight(context) + " request(s) still in flight (see network.idle.ignore)");
+            waited = timeout.toMillis();
+        }
+        lastWaitMillis.set(waited);
+        return waited;
+    }
+
+    /**
+     * Time the current thread's last waitForIdle call spent waiting (ms)
+     */
+    public static long getLastWaitMillis() {
+        return lastWaitMillis.get();
+    }
+
+    /**
+     * Stop listening for a session that is about to quit
+     */
+    public static void uninstall(WebDriver driver) {
+        NetworkIdleMonitor monitor = monitors.remove(driver);
+        if (monitor != null) {
+            try {
+                monitor.listeners.forEach(monitor.bidi::removeListener);
+            } catch (Exception ignored) {
+                // Session is going away anyway
+            }
+        }
+    }
+
+    /**
+     * Wait until the context has had no request in flight for the quiet period
+     * @param contextId Browsing context (window handle) to watch
+     * @param quiet How long the network must stay idle
+     * @param timeout Maximum wait
+     * @return Time waited in milliseconds, or -1 if the network never went idle in time
+     */
+    public synchronized long awaitIdle(String contextId, Duration quiet, Duration timeout) {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        long quietNanos = quiet.toNanos();
+        // Requests already finished count from now, not from before the call
+        lastActivity.merge(contextId, start, Math::max);
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long idleFor = now - lastActivity.getOrDefault(contextId, start);
+                boolean busy = inFlight.containsValue(contextId);
+                if (!busy && idleFor >= quietNanos) {
+                    long waited = now - start;
+                    waits.increment();
+                    totalIdleNanos.add(waited);
+                    return waited / 1_000_000;
+                }
+                if (now >= deadline) {
+                    timeouts.increment();
+                    return -1;
+                }
+                long sleepNanos = busy ? deadline - now : Math.min(quietNanos - idleFor, deadline - now);
+                wait(Math.max(1, sleepNanos / 1_000_000));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        }
+    }
+
+    /**
+     * Requests currently in flight for a context (for diagnostics)
+     */
+    public synchronized int getInFlight(String contextId) {
+        return (int) inFlight.values().stream().filter(contextId::equals).count();
+    }
+
+    public static void printStatistics() {
+        long count = waits.sum();
+        if (count > 0 || timeouts.sum() > 0) {
+            System.out.println("🌐 Network idle waits: " + count + ", avg "
+                    + (count == 0 ? 0 : totalIdleNanos.sum() / count / 1_000_000) + "ms, timeouts: " + timeouts.sum());
+        }
+    }
+
+    // ======================
+    // Event Handlers
+    // ======================
+    private synchronized void started(BaseParameters event) {
+        String url = event.getRequest().getUrl();
+        for (Pattern pattern : ignored) {
+            if (pattern.matcher(url).matches()) {
+                return;
+            }
+        }
+        inFlight.put(event.getRequest().getRequestId(), event.getBrowsingContextId());
+        touch(event.getBrowsingContextId());
+    }
+
+    private synchronized void finished(BaseParameters event) {
+        String context = inFlight.remove(event.getRequest().getRequestId());
+        if (context != null) {
+            touch(context);
+        }
+    }
+
+    private void touch(String contextId) {
+        if (contextId != null) {
+            lastActivity.put(contextId, System.nanoTime());
+        }
+        notifyAll();
+    }
+}
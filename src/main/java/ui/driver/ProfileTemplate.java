@@ -0,0 +1,244 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Warmed browser profile shared by local sessions
+ * Once per run and browser, a throwaway session visits base.url so the profile's HTTP cache and
+ * compiled-script cache hold the client app. Every later session starts from its own copy of that
+ * profile (copy-on-write clone where the filesystem supports it), deleted when the session quits.
+ */
+public class ProfileTemplate {
+
+    // Lock files a browser leaves in a profile it is (or was) running from
+    private static final Set<String> LOCK_FILES = Set.of(
+            "SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile", "lock", ".parentlock");
+
+    private static final Map<String, Path> templates = new ConcurrentHashMap<>();
+    private static final Set<String> failedBrowsers = ConcurrentHashMap.newKeySet();
+    private static final Map<WebDriver, Path> sessionCopies = new ConcurrentHashMap<>();
+    private static final Set<WebDriver> firstLoadRecorded = ConcurrentHashMap.newKeySet();
+    private static final AtomicInteger copiesCreated = new AtomicInteger();
+    private static volatile boolean shutdownHookRegistered;
+
+    private ProfileTemplate() {
+    }
+
+    /**
+     * Start a local session on a fresh copy of the warmed profile
+     * @param browser Browser name (chrome, edge, firefox)
+     * @param launcher Starts a session using the given profile directory, or a default profile for null
+     * @return New session; falls back to a default profile if the template cannot be built
+     */
+    public static WebDriver launch(String browser, Function<Path, WebDriver> launcher) {
+        Path template = getOrBuild(browser, launcher);
+        if (template == null) {
+            return launcher.apply(null);
+        }
+
+        Path copy;
+        try {
+            copy = copyTemplate(browser, template);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to copy " + browser + " profile template: " + e.getMessage());
+            return launcher.apply(null);
+        }
+
+        try {
+            WebDriver driver = launcher.apply(copy);
+            sessionCopies.put(driver, copy);
+            copiesCreated.incrementAndGet();
+            return driver;
+        } catch (RuntimeException e) {
+            delete(copy);
+            throw e;
+        }
+    }
+
+    /**
+     * Record the first page load of a session as warm (started from the template) or cold
+     * Later loads on the same (pooled) session are ignored.
+     */
+    public static void recordFirstLoad(WebDriver driver, long nanos) {
+        if (firstLoadRecorded.add(driver)) {
+            StartupProfiler.record(sessionCopies.containsKey(driver)
+                    ? StartupProfiler.FIRST_LOAD_WARM : StartupProfiler.FIRST_LOAD_COLD, nanos);
+        }
+    }
+
+    /**
+     * Delete the profile copy of a session that has quit
+     */
+    public static void release(WebDriver driver) {
+        firstLoadRecorded.remove(driver);
+        Path copy = sessionCopies.remove(driver);
+        if (copy != null) {
+            delete(copy);
+        }
+    }
+
+    /**
+     * Delete the templates and any copies left behind; registered as a JVM shutdown hook
+     */
+    public static synchronized void cleanup() {
+        if (templates.isEmpty() && sessionCopies.isEmpty()) {
+            return;
+        }
+        sessionCopies.values().forEach(ProfileTemplate::delete);
+        sessionCopies.clear();
+        templates.values().forEach(ProfileTemplate::delete);
+        templates.clear();
+        System.out.println("📦 Profile template copies used: " + copiesCreated.get());
+    }
+
+    // ======================
+    // Template Build
+    // ======================
+    private static synchronized Path getOrBuild(String browser, Function<Path, WebDriver> launcher) {
+        Path existing = templates.get(browser);
+        if (existing != null || failedBrowsers.contains(browser)) {
+            return existing;
+        }
+
+        Path dir = null;
+        WebDriver driver = null;
+        try {
+            dir = Files.createTempDirectory("profile-template-" + browser + "-");
+            long start = System.nanoTime();
+            driver = launcher.apply(dir);
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(Config.getPageLoadTimeout()));
+
+            long loadStart = System.nanoTime();
+            visitBaseUrl(driver);
+            StartupProfiler.record(StartupProfiler.FIRST_LOAD_COLD, System.nanoTime() - loadStart);
+            // V8 only writes its code cache once a script has run more than once
+            driver.navigate().refresh();
+            waitForLoad(driver);
+
+            templates.put(browser, dir);
+            registerShutdownHook();
+            System.out.println("📦 " + browser + " profile template warmed in "
+                    + (System.nanoTime() - start) / 1_000_000 + "ms: " + dir);
+            return dir;
+        } catch (Exception e) {
+            System.err.println("❌ Failed to build " + browser + " profile template, using default profiles: "
+                    + e.getMessage());
+            failedBrowsers.add(browser);
+            if (dir != null) {
+                delete(dir);
+            }
+            return null;
+        } finally {
+            if (driver != null) {
+                // Quitting flushes the caches to disk before the template is copied
+                try {
+                    driver.quit();
+                } catch (Exception ignored) {
+                    // Template is still usable
+                }
+            }
+        }
+    }
+
+    private static void visitBaseUrl(WebDriver driver) {
+        driver.get(Config.getBaseUrl());
+        waitForLoad(driver);
+    }
+
+    private static void waitForLoad(WebDriver driver) {
+        new WebDriverWait(driver, Duration.ofSeconds(Config.getPageLoadTimeout())).until(
+                d -> "complete".equals(((JavascriptExecutor) d).executeScript("return document.readyState")));
+    }
+
+    // ======================
+    // Profile Copies
+    // ======================
+    private static Path copyTemplate(String browser, Path template) throws IOException {
+        Path copy = Files.createTempDirectory("profile-" + browser + "-");
+        if (!cloneWithCp(template, copy)) {
+            copyTree(template, copy);
+        }
+        try (Stream<Path> files = Files.walk(copy)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                if (LOCK_FILES.contains(file.getFileName().toString())) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Copy-on-write clone via GNU cp on filesystems that support it (btrfs, XFS); false if cp is unavailable
+     */
+    private static boolean cloneWithCp(Path source, Path target) {
+        if (System.getProperty("os.name").toLowerCase().contains("win")) {
+            return false;
+        }
+        try {
+            Process process = new ProcessBuilder(
+                    List.of("cp", "-R", "--reflink=auto", source + "/.", target.toString()))
+                    .redirectErrorStream(true)
+                    .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                    .start();
+            return process.waitFor(60, TimeUnit.SECONDS) && process.exitValue() == 0;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static void copyTree(Path source, Path target) throws IOException {
+        try (Stream<Path> files = Files.walk(source)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Path destination = target.resolve(source.relativize(file).toString());
+                if (Files.isDirectory(file)) {
+                    Files.createDirectories(destination);
+                } else if (!Files.isSymbolicLink(file)) {
+                    Files.copy(file, destination, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+
+    private static void delete(Path dir) {
+        try (Stream<Path> files = Files.walk(dir)) {
+            files.sorted(Comparator.reverseOrder()).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException ignored) {
+                    // Best effort - temp directory
+                }
+            });
+        } catch (IOException e) {
+            System.err.println("❌ Failed to delete profile " + dir + ": " + e.getMessage());
+        }
+    }
+
+    private static void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(ProfileTemplate::cleanup, "profile-template-cleanup"));
+            shutdownHookRegistered = true;
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ui.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Authenticated session snapshots per user, shared by all threads
+ * The first login of a user is captured (cookies and web storage); later logins of the same user,
+ * in new or reset sessions, restore the snapshot instead. A restored session that lands on the
+ * login page again has expired and is replaced by a fresh login.
+ */
+public class SessionCache {
+
+    private static final Map<String, SessionState> snapshots = new ConcurrentHashMap<>();
+    private static final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder expired = new LongAdder();
+
+    private SessionCache() {
+    }
+
+    /**
+     * Log the browser in as a user, restoring the user's snapshot when there is a valid one
+     * Concurrent first logins of the same user are serialised, so only one of them really logs in.
+     * @param targetUrl Page to open after restoring a snapshot
+     * @param login Performs a real login in the browser
+     * @param loggedOut Whether the browser shows the login page (i.e. is not logged in)
+     * @return true if the browser ended up logged in
+     */
+    public static boolean login(WebDriver driver, String user, String targetUrl, Runnable login,
+                                Predicate<WebDriver> loggedOut) {
+        SessionState snapshot = snapshots.get(user);
+        if (snapshot != null && restore(driver, user, snapshot, targetUrl, loggedOut)) {
+            return true;
+        }
+        synchronized (loginLocks.computeIfAbsent(user, u -> new Object())) {
+            // Another thread may have logged this user in while we waited
+            SessionState current = snapshots.get(user);
+            if (current != null && current != snapshot && restore(driver, user, current, targetUrl, loggedOut)) {
+                return true;
+            }
+            misses.increment();
+            login.run();
+            if (loggedOut.test(driver)) {
+                System.err.println("❌ Login failed for " + user + ", nothing cached");
+                return false;
+            }
+            snapshots.put(user, SessionState.capture(driver));
+            return true;
+        }
+    }
+
+    /**
+     * Drop a user's snapshot (e.g. after changing the user's password)
+     */
+    public static void invalidate(String user) {
+        snapshots.remove(user);
+    }
+
+    public static void printStatistics() {
+        long total = hits.sum() + misses.sum();
+        if (total > 0) {
+            System.out.println("🍪 Session cache: " + hits.sum() + " restores, " + misses.sum() + " logins ("
+                    + expired.sum() + " expired snapshots), " + snapshots.size() + " users cached, hit rate "
+                    + hits.sum() * 100 / total + "%");
+        }
+    }
+
+    private static boolean restore(WebDriver driver, String user, SessionState snapshot, String targetUrl,
+                                   Predicate<WebDriver> loggedOut) {
+        try {
+            snapshot.restore(driver, targetUrl);
+        } catch (WebDriverException e) {
+            // e.g. the bootstrap page did not load and its document has no storage
+            System.out.println("⚠️ Could not restore the cached session of " + user + ", logging in again: "
+                    + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+            return false;
+        }
+        if (!loggedOut.test(driver)) {
+            hits.increment();
+            return true;
+        }
+        expired.increment();
+        snapshots.remove(user, snapshot);
+        System.out.println("⏳ Cached session of " + user + " expired, logging in again");
+        return false;
+    }
+}
@@ -0,0 +1,103 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+
+import java.net.URI;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Authentication state of a site: cookies plus localStorage and sessionStorage entries
+ * Restoring it into a session logs that session in without going through the login page.
+ */
+public final class SessionState {
+
+    private final String origin;
+    private final Set<Cookie> cookies;
+    private final Map<String, String> localStorage;
+    private final Map<String, String> sessionStorage;
+
+    public SessionState(String origin, Set<Cookie> cookies, Map<String, String> localStorage,
+                        Map<String, String> sessionStorage) {
+        this.origin = origin;
+        this.cookies = Collections.unmodifiableSet(new HashSet<>(cookies));
+        this.localStorage = Collections.unmodifiableMap(new LinkedHashMap<>(localStorage));
+        this.sessionStorage = Collections.unmodifiableMap(new LinkedHashMap<>(sessionStorage));
+    }
+
+    /**
+     * State consisting of localStorage entries only (e.g. a token from a login API)
+     * @param url Any URL of the site; only its origin is kept
+     */
+    public static SessionState ofLocalStorage(String url, Map<String, String> entries) {
+        return new SessionState(originOf(url), Collections.emptySet(), entries, Collections.emptyMap());
+    }
+
+    /**
+     * Snapshot of the cookies and web storage of the site the browser currently shows
+     */
+    public static SessionState capture(WebDriver driver) {
+        Map<?, ?> storage = (Map<?, ?>) ((JavascriptExecutor) driver).executeScript(String.join("\n",
+                "function copy(store) {",
+                "  var entries = {};",
+                "  for (var i = 0; i < store.length; i++) entries[store.key(i)] = store.getItem(store.key(i));",
+                "  return entries;",
+                "}",
+                "return {local: copy(window.localStorage), session: copy(window.sessionStorage)};"));
+        return new SessionState(originOf(driver.getCurrentUrl()), driver.manage().getCookies(),
+                toStrings((Map<?, ?>) storage.get("local")), toStrings((Map<?, ?>) storage.get("session")));
+    }
+
+    /**
+     * Put the state into the browser, then open the target page
+     * Storage can only be written from a document of the site, so a lightweight page of the same
+     * origin (session.bootstrap.path) is loaded first instead of the application itself.
+     */
+    public void restore(WebDriver driver, String targetUrl) {
+        LazyNavigation.cancel(driver);
+        driver.get(origin + Config.getSessionBootstrapPath());
+        for (Cookie cookie : cookies) {
+            driver.manage().addCookie(cookie);
+        }
+        ((JavascriptExecutor) driver).executeScript(String.join("\n",
+                "var local = arguments[0], session = arguments[1];",
+                "Object.keys(local).forEach(function (key) { window.localStorage.setItem(key, local[key]); });",
+                "Object.keys(session).forEach(function (key) { window.sessionStorage.setItem(key, session[key]); });"),
+                localStorage, sessionStorage);
+        driver.get(targetUrl);
+        NetworkIdleMonitor.waitForIdle(driver);
+    }
+
+    public String getOrigin() {
+        return origin;
+    }
+
+    public Set<Cookie> getCookies() {
+        return cookies;
+    }
+
+    public Map<String, String> getLocalStorage() {
+        return localStorage;
+    }
+
+    public Map<String, String> getSessionStorage() {
+        return sessionStorage;
+    }
+
+    private static Map<String, String> toStrings(Map<?, ?> entries) {
+        Map<String, String> strings = new LinkedHashMap<>();
+        entries.forEach((key, value) -> strings.put(String.valueOf(key), String.valueOf(value)));
+        return strings;
+    }
+
+    static String originOf(String url) {
+        URI uri = URI.create(url);
+        return uri.getScheme() + "://" + uri.getRawAuthority();
+    }
+}
@@ -0,0 +1,117 @@
+package ui.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.chromium.ChromiumOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.Augmenter;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.service.DriverFinder;
+import org.openqa.selenium.remote.service.DriverService;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Long-lived driver server processes (chromedriver / msedgedriver) shared by local sessions
+ * One service per browser type per JVM, started lazily and stopped on JVM exit.
+ * Firefox is not covered: geckodriver only serves a single session per process.
+ */
+public class SharedDriverService {
+
+    private static final Map<String, DriverService> services = new ConcurrentHashMap<>();
+    private static final Map<String, String> browserPaths = new ConcurrentHashMap<>();
+    private static volatile boolean shutdownHookRegistered;
+
+    private SharedDriverService() {
+    }
+
+    public static WebDriver createChromeSession(ChromeOptions options) {
+        return createSession("chrome", options, ChromeDriverService::createDefaultService,
+                () -> StartupProfiler.time(StartupProfiler.LAUNCH, () -> new ChromeDriver(options)));
+    }
+
+    public static WebDriver createEdgeSession(EdgeOptions options) {
+        return createSession("edge", options, EdgeDriverService::createDefaultService,
+                () -> StartupProfiler.time(StartupProfiler.LAUNCH, () -> new EdgeDriver(options)));
+    }
+
+    /**
+     * Stop every shared service; registered as a JVM shutdown hook
+     */
+    public static synchronized void stopAll() {
+        services.forEach((browser, service) -> {
+            try {
+                service.stop();
+                System.out.println("✅ Shared " + browser + " driver service stopped");
+            } catch (Exception e) {
+                System.err.println("❌ Error stopping shared " + browser + " driver service: " + e.getMessage());
+            }
+        });
+        services.clear();
+    }
+
+    private static WebDriver createSession(String browser, ChromiumOptions<?> options,
+                                           Supplier<DriverService> serviceFactory,
+                                           Supplier<WebDriver> perSessionFallback) {
+        try {
+            DriverService service = getOrStart(browser, serviceFactory, options);
+            String browserPath = browserPaths.get(browser);
+            if (browserPath != null) {
+                options.setBinary(browserPath);
+            }
+            // A plain RemoteWebDriver does not stop the service on quit(), unlike ChromeDriver/EdgeDriver
+            return StartupProfiler.time(StartupProfiler.SESSION,
+                    () -> new Augmenter().augment(new RemoteWebDriver(service.getUrl(), options)));
+        } catch (Exception e) {
+            System.err.println("❌ Shared " + browser + " driver service unavailable, "
+                    + "falling back to a per-session service: " + e.getMessage());
+            return perSessionFallback.get();
+        }
+    }
+
+    private static synchronized DriverService getOrStart(String browser, Supplier<DriverService> serviceFactory,
+                                                         ChromiumOptions<?> options) throws IOException {
+        DriverService existing = services.get(browser);
+        if (existing != null) {
+            if (existing.isRunning()) {
+                return existing;
+            }
+            System.err.println("❌ Shared " + browser + " driver service is no longer running, restarting");
+            services.remove(browser);
+            try {
+                existing.stop();
+            } catch (Exception ignored) {
+                // Process is already gone
+            }
+        }
+
+        DriverService service = serviceFactory.get();
+        DriverFinder finder = new DriverFinder(service, options);
+        service.setExecutable(StartupProfiler.time(StartupProfiler.RESOLUTION, finder::getDriverPath));
+        if (finder.hasBrowserPath()) {
+            browserPaths.put(browser, finder.getBrowserPath());
+        }
+        long spawnStart = System.nanoTime();
+        service.start();
+        StartupProfiler.record(StartupProfiler.SPAWN, System.nanoTime() - spawnStart);
+        services.put(browser, service);
+        registerShutdownHook();
+
+        System.out.println("✅ Shared " + browser + " driver service started: " + service.getUrl());
+        return service;
+    }
+
+    private static void registerShutdownHook() {
+        if (!shutdownHookRegistered) {
+            Runtime.getRuntime().addShutdownHook(new Thread(SharedDriverService::stopAll, "driver-service-shutdown"));
+            shutdownHookRegistered = true;
+        }
+    }
+}
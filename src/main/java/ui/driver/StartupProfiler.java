@@ -0,0 +1,181 @@
+package ui.driver;
+
+import config.Config;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Per-phase timing of WebDriver startup
+ * Every phase is emitted as a JFR event and aggregated per browser / execution mode
+ * into a JSON profile written at suite end.
+ */
+public class StartupProfiler {
+
+    public static final String RESOLUTION = "resolution";
+    public static final String SPAWN = "spawn";
+    public static final String ADMISSION = "admission";
+    public static final String SESSION = "session";
+    public static final String LAUNCH = "launch";
+    public static final String TIMEOUTS = "timeouts";
+    public static final String INITIAL_NAVIGATION = "initial-navigation";
+    public static final String FIRST_LOAD_COLD = "first-load-cold";
+    public static final String FIRST_LOAD_WARM = "first-load-warm";
+    public static final String TOTAL = "total";
+
+    private static final String PROFILE_FILE = "test-output/reports/startup-profile.json";
+    // browser -> execution -> phase -> durations in nanos
+    private static final Map<String, Map<String, Map<String, List<Long>>>> samples = new ConcurrentHashMap<>();
+
+    private StartupProfiler() {
+    }
+
+    /**
+     * Time a startup phase
+     * @param phase Phase name, one of the constants of this class
+     * @param action Work belonging to the phase
+     */
+    public static <T> T time(String phase, Supplier<T> action) {
+        StartupPhaseEvent event = new StartupPhaseEvent();
+        event.begin();
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long nanos = System.nanoTime() - start;
+            event.end();
+            commit(event, phase, nanos);
+            store(phase, nanos);
+        }
+    }
+
+    public static void time(String phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Record a phase that was measured elsewhere
+     */
+    public static void record(String phase, long nanos) {
+        commit(new StartupPhaseEvent(), phase, nanos);
+        store(phase, nanos);
+    }
+
+    /**
+     * Percentiles per browser, execution mode and phase (milliseconds)
+     */
+    public static Map<String, Object> summary() {
+        Map<String, Object> result = new TreeMap<>();
+        samples.forEach((browser, byExecution) -> {
+            Map<String, Object> executions = new TreeMap<>();
+            byExecution.forEach((execution, byPhase) -> {
+                Map<String, Object> phases = new TreeMap<>();
+                byPhase.forEach((phase, durations) -> phases.put(phase, percentiles(durations)));
+                executions.put(execution, phases);
+            });
+            result.put(browser, executions);
+        });
+        return result;
+    }
+
+    /**
+     * Write the JSON profile and print it
+     */
+    public static void writeSummary() {
+        if (samples.isEmpty()) {
+            return;
+        }
+        String json = new Json().toJson(summary());
+        Path path = Paths.get(PROFILE_FILE);
+        try {
+            Files.createDirectories(path.getParent());
+            Files.write(path, json.getBytes(StandardCharsets.UTF_8));
+            System.out.println("⏱️ Driver startup profile written: " + path);
+        } catch (IOException e) {
+            System.err.println("❌ Failed to write startup profile: " + e.getMessage());
+        }
+        System.out.println(json);
+    }
+
+    // ======================
+    // Internal Helpers
+    // ======================
+    private static void store(String phase, long nanos) {
+        List<Long> durations = samples
+                .computeIfAbsent(Config.getBrowser(), b -> new ConcurrentHashMap<>())
+                .computeIfAbsent(Config.getExecution(), e -> new ConcurrentHashMap<>())
+                .computeIfAbsent(phase, p -> Collections.synchronizedList(new ArrayList<>()));
+        durations.add(nanos);
+    }
+
+    private static void commit(StartupPhaseEvent event, String phase, long nanos) {
+        if (event.shouldCommit()) {
+            event.browser = Config.getBrowser();
+            event.execution = Config.getExecution();
+            event.phase = phase;
+            event.durationMillis = nanos / 1_000_000.0;
+            event.commit();
+        }
+    }
+
+    private static Map<String, Object> percentiles(List<Long> durations) {
+        List<Long> sorted;
+        synchronized (durations) {
+            sorted = new ArrayList<>(durations);
+        }
+        Collections.sort(sorted);
+
+        Map<String, Object> stats = new TreeMap<>();
+        stats.put("count", sorted.size());
+        stats.put("p50", percentile(sorted, 0.50));
+        stats.put("p90", percentile(sorted, 0.90));
+        stats.put("p99", percentile(sorted, 0.99));
+        stats.put("max", sorted.isEmpty() ? 0.0 : sorted.get(sorted.size() - 1) / 1_000_000.0);
+        return stats;
+    }
+
+    private static double percentile(List<Long> sorted, double quantile) {
+        if (sorted.isEmpty()) {
+            return 0.0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index)) / 1_000_000.0;
+    }
+
+    @Name("ui.driver.StartupPhase")
+    @Label("WebDriver Startup Phase")
+    @Category({"Test Automation", "WebDriver"})
+    @Description("One phase of creating a WebDriver session")
+    static class StartupPhaseEvent extends Event {
+        @Label("Browser")
+        String browser;
+
+        @Label("Execution")
+        String execution;
+
+        @Label("Phase")
+        String phase;
+
+        @Label("Duration (ms)")
+        double durationMillis;
+    }
+}
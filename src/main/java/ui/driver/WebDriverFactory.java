@@ -1,19 +1,28 @@
 package ui.driver;
 
 import config.Config;
+import org.openqa.selenium.Capabilities;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
 import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.firefox.FirefoxDriver;
 import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.firefox.GeckoDriverService;
 import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeDriverService;
 import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.Augmenter;
 import org.openqa.selenium.remote.RemoteWebDriver;
 import org.openqa.selenium.remote.DesiredCapabilities;
+import org.openqa.selenium.remote.service.DriverService;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * WebDriver Factory for creating browser instances
@@ -21,6 +30,9 @@ import java.time.Duration;
  */
 public class WebDriverFactory {
 
+    // Lets callers that depend on BiDi (e.g. BrowserContextManager) request it regardless of Config
+    private static final ThreadLocal<Boolean> biDiRequested = ThreadLocal.withInitial(() -> false);
+
     /**
      * Create WebDriver instance based on configuration
      * @return WebDriver instance
@@ -29,20 +41,57 @@ public class WebDriverFactory {
         String execution = Config.getExecution();
         String browser = Config.getBrowser();
 
+        long start = System.nanoTime();
         WebDriver driver = switch (execution) {
             case "local" -> createLocalDriver(browser);
             case "grid", "docker" -> createRemoteDriver(browser);
             default -> throw new IllegalArgumentException("❌ Unsupported execution mode: " + execution);
         };
 
+        NetworkBlocker.install(driver);
+
         // Set timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(Config.getImplicitTimeout()));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(Config.getPageLoadTimeout()));
+        StartupProfiler.time(StartupProfiler.TIMEOUTS, () -> {
+            driver.manage().timeouts().implicitlyWait(Config.isZeroImplicitWait()
+                    ? Duration.ZERO : Duration.ofSeconds(Config.getImplicitTimeout()));
+            driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(Config.getPageLoadTimeout()));
+            driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(Config.getScriptTimeout()));
+        });
 
-        System.out.println("✅ WebDriver created: " + browser + " (" + execution + ")");
+        long totalNanos = System.nanoTime() - start;
+        StartupProfiler.record(StartupProfiler.TOTAL, totalNanos);
+        System.out.println("✅ WebDriver created: " + browser + " (" + execution + ") in "
+                + totalNanos / 1_000_000 + "ms");
         return driver;
     }
 
+    /**
+     * Create WebDriver instance with WebDriver BiDi enabled, regardless of bidi.enabled
+     * @return WebDriver instance implementing HasBiDi
+     */
+    public static WebDriver createBiDiDriver() {
+        biDiRequested.set(true);
+        try {
+            return createDriver();
+        } finally {
+            biDiRequested.remove();
+        }
+    }
+
+    /**
+     * Create WebDriver bound to an isolated user context inside a shared browser process
+     * @return WebDriver whose quit() only closes its own context
+     */
+    public static WebDriver createContextDriver() {
+        return BrowserContextManager.newContext();
+    }
+
+    private static boolean isBiDiEnabled() {
+        // Network blocking profiles and network-idle waits both rely on BiDi network events
+        return biDiRequested.get() || Config.isBiDiEnabled() || NetworkBlocker.isConfigured()
+                || Config.isNetworkIdleEnabled();
+    }
+
     /**
      * Create local WebDriver instance
      */
@@ -67,32 +116,102 @@ public class WebDriverFactory {
                 case "edge" -> getEdgeCapabilities();
                 default -> throw new IllegalArgumentException("❌ Unsupported browser for remote: " + browser);
             };
+            if (isBiDiEnabled()) {
+                capabilities.setCapability("webSocketUrl", true);
+            }
 
-            return new RemoteWebDriver(gridUrl, capabilities);
+            WebDriver driver = Config.isGridAdmissionEnabled()
+                    ? GridAdmissionController.forGrid(Config.getGridUrl(), browser)
+                            .admit(() -> createRemoteSession(gridUrl, capabilities))
+                    : createRemoteSession(gridUrl, capabilities);
+
+            // RemoteWebDriver only exposes BiDi once augmented
+            return isBiDiEnabled() ? new Augmenter().augment(driver) : driver;
         } catch (MalformedURLException e) {
             throw new RuntimeException("❌ Invalid Grid URL: " + Config.getGridUrl(), e);
         }
     }
 
+    private static WebDriver createRemoteSession(URL gridUrl, DesiredCapabilities capabilities) {
+        return StartupProfiler.time(StartupProfiler.SESSION,
+                () -> new RemoteWebDriver(GridTransport.createCommandExecutor(gridUrl), capabilities));
+    }
+
     // ======================
     // Local Driver Creation
     // ======================
     private static WebDriver createChromeDriver() {
+        return Config.isProfileTemplateEnabled()
+                ? ProfileTemplate.launch("chrome", WebDriverFactory::launchChrome)
+                : launchChrome(null);
+    }
+
+    private static WebDriver createFirefoxDriver() {
+        return Config.isProfileTemplateEnabled()
+                ? ProfileTemplate.launch("firefox", WebDriverFactory::launchFirefox)
+                : launchFirefox(null);
+    }
+
+    private static WebDriver createEdgeDriver() {
+        return Config.isProfileTemplateEnabled()
+                ? ProfileTemplate.launch("edge", WebDriverFactory::launchEdge)
+                : launchEdge(null);
+    }
+
+    /**
+     * @param profile User data directory to start from, or null for a fresh temporary profile
+     */
+    private static WebDriver launchChrome(Path profile) {
         ChromeOptions options = new ChromeOptions();
         configureChromeOptions(options);
-        return new ChromeDriver(options);
+        applyCachedBinaries("chrome", ChromeDriverService::createDefaultService, options, options::setBinary);
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        if (Config.isSharedDriverServiceEnabled()) {
+            return SharedDriverService.createChromeSession(options);
+        }
+        // Process spawn and session handshake happen inside the constructor
+        return StartupProfiler.time(StartupProfiler.LAUNCH, () -> new ChromeDriver(options));
     }
 
-    private static WebDriver createFirefoxDriver() {
+    private static WebDriver launchFirefox(Path profile) {
         FirefoxOptions options = new FirefoxOptions();
         configureFirefoxOptions(options);
-        return new FirefoxDriver(options);
+        applyCachedBinaries("firefox", GeckoDriverService::createDefaultService, options, options::setBinary);
+        if (profile != null) {
+            // Run directly in the directory; FirefoxProfile would zip and re-extract it
+            options.addArguments("-profile", profile.toString());
+        }
+        // Process spawn and session handshake happen inside the constructor
+        return StartupProfiler.time(StartupProfiler.LAUNCH, () -> new FirefoxDriver(options));
     }
 
-    private static WebDriver createEdgeDriver() {
+    private static WebDriver launchEdge(Path profile) {
         EdgeOptions options = new EdgeOptions();
         configureEdgeOptions(options);
-        return new EdgeDriver(options);
+        applyCachedBinaries("edge", EdgeDriverService::createDefaultService, options, options::setBinary);
+        if (profile != null) {
+            options.addArguments("--user-data-dir=" + profile);
+        }
+        if (Config.isSharedDriverServiceEnabled()) {
+            return SharedDriverService.createEdgeSession(options);
+        }
+        // Process spawn and session handshake happen inside the constructor
+        return StartupProfiler.time(StartupProfiler.LAUNCH, () -> new EdgeDriver(options));
+    }
+
+    /**
+     * Point Selenium at cached driver/browser binaries instead of running Selenium Manager
+     */
+    private static void applyCachedBinaries(String browser, Supplier<DriverService> serviceFactory,
+                                            Capabilities options, Consumer<String> binarySetter) {
+        if (Config.isDriverCacheEnabled() || Config.isDriverOffline()) {
+            String browserPath = DriverBinaryCache.resolve(browser, serviceFactory, options).getBrowserPath();
+            if (browserPath != null) {
+                binarySetter.accept(browserPath);
+            }
+        }
     }
 
     // ======================
@@ -105,7 +224,6 @@ public class WebDriverFactory {
         options.addArguments("--disable-gpu");
         options.addArguments("--disable-extensions");
         options.addArguments("--disable-plugins");
-        options.addArguments("--disable-images");
         options.addArguments("--disable-popup-blocking");
 
         // Security and privacy
@@ -124,6 +242,10 @@ public class WebDriverFactory {
         options.setExperimentalOption("excludeSwitches", new String[]{"enable-automation"});
         options.setExperimentalOption("useAutomationExtension", false);
         options.addArguments("--disable-blink-features=AutomationControlled");
+
+        if (isBiDiEnabled()) {
+            options.enableBiDi();
+        }
     }
 
     private static DesiredCapabilities getChromeCapabilities() {
@@ -154,6 +276,10 @@ public class WebDriverFactory {
         // Security settings
         options.addPreference("security.tls.insecure_fallback_hosts", "localhost");
         options.addPreference("security.fileuri.strict_origin_policy", false);
+
+        if (isBiDiEnabled()) {
+            options.enableBiDi();
+        }
     }
 
     private static DesiredCapabilities getFirefoxCapabilities() {
@@ -179,6 +305,10 @@ public class WebDriverFactory {
             options.addArguments("--headless");
             options.addArguments("--window-size=1920,1080");
         }
+
+        if (isBiDiEnabled()) {
+            options.enableBiDi();
+        }
     }
 
     private static DesiredCapabilities getEdgeCapabilities() {
@@ -196,12 +326,15 @@ public class WebDriverFactory {
     // ======================
     public static void quitDriver(WebDriver driver) {
         if (driver != null) {
+            NetworkBlocker.uninstall(driver);
+            NetworkIdleMonitor.uninstall(driver);
             try {
                 driver.quit();
                 System.out.println("✅ WebDriver quit successfully");
             } catch (Exception e) {
                 System.err.println("❌ Error quitting WebDriver: " + e.getMessage());
             }
+            ProfileTemplate.release(driver);
         }
     }
 }
\ No newline at end of file
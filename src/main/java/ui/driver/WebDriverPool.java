@@ -0,0 +1,435 @@
+package ui.driver;
+
+import config.Config;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.bidi.HasBiDi;
+import org.openqa.selenium.bidi.module.Storage;
+import org.openqa.selenium.bidi.storage.CookieFilter;
+import org.openqa.selenium.bidi.storage.DeleteCookiesParameters;
+import org.openqa.selenium.chromium.HasCdp;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Pool of warm WebDriver sessions shared by test threads
+ * Sessions are reset between tests instead of being quit and recreated
+ */
+public class WebDriverPool {
+
+    private static final long WAIT_SLICE_MILLIS = 250;
+    private static WebDriverPool instance;
+
+    private final Supplier<WebDriver> driverSupplier;
+    private final int minSize;
+    private final int maxSize;
+    private final int maxUses;
+    private final Duration leaseTimeout;
+
+    private final BlockingDeque<PooledDriver> idle = new LinkedBlockingDeque<>();
+    private final Map<WebDriver, PooledDriver> leased = new ConcurrentHashMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final PoolMetrics metrics = new PoolMetrics();
+    private volatile boolean closed;
+
+    /**
+     * Create a pool with explicit sizing
+     * @param driverSupplier Creates a new session when the pool needs one
+     * @param minSize Sessions created up front by warmUp()
+     * @param maxSize Upper bound of live sessions (idle + leased)
+     * @param maxUses Leases after which a session is quit instead of reset
+     * @param leaseTimeout Maximum time lease() waits for a free session
+     */
+    public WebDriverPool(Supplier<WebDriver> driverSupplier, int minSize, int maxSize,
+                         int maxUses, Duration leaseTimeout) {
+        if (maxSize < 1 || minSize < 0 || minSize > maxSize || maxUses < 1) {
+            throw new IllegalArgumentException("❌ Invalid pool sizing: min=" + minSize
+                    + ", max=" + maxSize + ", maxUses=" + maxUses);
+        }
+        this.driverSupplier = driverSupplier;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.maxUses = maxUses;
+        this.leaseTimeout = leaseTimeout;
+    }
+
+    /**
+     * Get the JVM-wide pool configured from Config
+     */
+    public static synchronized WebDriverPool getInstance() {
+        if (instance == null) {
+            instance = new WebDriverPool(
+                    WebDriverFactory::createDriver,
+                    Config.getDriverPoolMinSize(),
+                    Math.max(1, Config.getDriverPoolMaxSize()),
+                    Config.getDriverPoolMaxUses(),
+                    Duration.ofSeconds(Config.getDriverPoolLeaseTimeout()));
+        }
+        return instance;
+    }
+
+    /**
+     * Pre-create sessions up to the configured minimum size
+     */
+    public void warmUp() {
+        while (!closed && size.get() < minSize && tryReserveSlot()) {
+            try {
+                idle.offerLast(new PooledDriver(driverSupplier.get()));
+            } catch (RuntimeException e) {
+                size.decrementAndGet();
+                System.err.println("❌ Failed to warm up pooled WebDriver: " + e.getMessage());
+                return;
+            }
+        }
+        System.out.println("🔥 WebDriver pool warmed up: " + idle.size() + " idle session(s)");
+    }
+
+    /**
+     * Lease a session, reusing an idle one when possible
+     * @return WebDriver owned by the caller until release()
+     */
+    public WebDriver lease() {
+        long start = System.nanoTime();
+        long deadline = start + leaseTimeout.toNanos();
+
+        while (true) {
+            if (closed) {
+                throw new IllegalStateException("❌ WebDriver pool is shut down");
+            }
+
+            PooledDriver pooled = idle.pollFirst();
+            if (pooled != null) {
+                if (isHealthy(pooled)) {
+                    metrics.hits.increment();
+                    return checkout(pooled, start);
+                }
+                System.err.println("❌ Discarding unhealthy pooled WebDriver");
+                metrics.unhealthy.increment();
+                discard(pooled);
+                continue;
+            }
+
+            if (tryReserveSlot()) {
+                try {
+                    pooled = new PooledDriver(driverSupplier.get());
+                } catch (RuntimeException e) {
+                    size.decrementAndGet();
+                    throw e;
+                }
+                metrics.misses.increment();
+                return checkout(pooled, start);
+            }
+
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw new IllegalStateException("❌ Timed out after " + leaseTimeout.toSeconds()
+                        + "s waiting for a pooled WebDriver (max size " + maxSize + ")");
+            }
+            try {
+                // Wake up periodically so slots freed by discards are noticed too
+                pooled = idle.pollFirst(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(WAIT_SLICE_MILLIS)),
+                        TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("❌ Interrupted while waiting for a pooled WebDriver", e);
+            }
+            if (pooled != null) {
+                idle.offerFirst(pooled);
+            }
+        }
+    }
+
+    /**
+     * Return a session to the pool, resetting its state or recycling it
+     * @param driver Session previously obtained from lease()
+     */
+    public void release(WebDriver driver) {
+        if (driver == null || closed) {
+            // After shutdown() every session of the pool has been quit already
+            return;
+        }
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled == null) {
+            // Not ours - behave like a plain quit
+            WebDriverFactory.quitDriver(driver);
+            return;
+        }
+
+        if (closed || pooled.uses >= maxUses) {
+            metrics.recycles.increment();
+            discard(pooled);
+            return;
+        }
+
+        if (reset(pooled)) {
+            idle.offerFirst(pooled);
+        } else {
+            metrics.unhealthy.increment();
+            discard(pooled);
+        }
+    }
+
+    /**
+     * Remove a leased session from the pool and quit it
+     * Use when the session is known to be broken
+     */
+    public void invalidate(WebDriver driver) {
+        PooledDriver pooled = leased.remove(driver);
+        if (pooled != null) {
+            metrics.unhealthy.increment();
+            discard(pooled);
+        } else {
+            WebDriverFactory.quitDriver(driver);
+        }
+    }
+
+    /**
+     * Quit every session and print pool metrics
+     */
+    public void shutdown() {
+        closed = true;
+        List<PooledDriver> all = new ArrayList<>(leased.values());
+        leased.clear();
+        PooledDriver pooled;
+        while ((pooled = idle.pollFirst()) != null) {
+            all.add(pooled);
+        }
+        all.forEach(this::discard);
+        printMetrics();
+    }
+
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    public int getSize() {
+        return size.get();
+    }
+
+    public int getIdleCount() {
+        return idle.size();
+    }
+
+    public void printMetrics() {
+        System.out.println("\n=== WebDriver Pool Metrics ===");
+        System.out.println(metrics);
+        System.out.println("==============================\n");
+    }
+
+    // ======================
+    // Internal Helpers
+    // ======================
+    private WebDriver checkout(PooledDriver pooled, long leaseStart) {
+        pooled.uses++;
+        leased.put(pooled.driver, pooled);
+        metrics.recordLease(System.nanoTime() - leaseStart);
+        return pooled.driver;
+    }
+
+    private boolean tryReserveSlot() {
+        while (true) {
+            int current = size.get();
+            if (current >= maxSize) {
+                return false;
+            }
+            if (size.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean isHealthy(PooledDriver pooled) {
+        try {
+            return !pooled.driver.getWindowHandles().isEmpty();
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring a session back to a blank state: one window, no cookies, empty web storage
+     */
+    private boolean reset(PooledDriver pooled) {
+        WebDriver driver = pooled.driver;
+        try {
+            Set<String> handles = driver.getWindowHandles();
+            String keep = handles.contains(pooled.homeHandle) ? pooled.homeHandle : handles.iterator().next();
+            Set<String> origins = new LinkedHashSet<>();
+            for (String handle : handles) {
+                driver.switchTo().window(handle);
+                origins.addAll(visitedOrigins(driver));
+                if (!handle.equals(keep)) {
+                    driver.close();
+                }
+            }
+            driver.switchTo().window(keep);
+            pooled.homeHandle = keep;
+
+            // Storage is per-origin, so clear the current one before leaving the page
+            try {
+                ((JavascriptExecutor) driver).executeScript(
+                        "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}");
+            } catch (Exception ignored) {
+                // about:blank and similar pages have no storage
+            }
+            clearAllOrigins(driver, origins);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            System.err.println("❌ Failed to reset pooled WebDriver: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Origins the current window has shown during the lease (Chromium only, from its navigation history)
+     */
+    private static Set<String> visitedOrigins(WebDriver driver) {
+        Set<String> origins = new LinkedHashSet<>();
+        if (!(driver instanceof HasCdp)) {
+            return origins;
+        }
+        try {
+            Map<String, Object> history = ((HasCdp) driver).executeCdpCommand("Page.getNavigationHistory", Map.of());
+            for (Object entry : (List<?>) history.get("entries")) {
+                addOrigin(origins, String.valueOf(((Map<?, ?>) entry).get("url")));
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Could not read navigation history: " + e.getMessage());
+        }
+        return origins;
+    }
+
+    /**
+     * Delete the cookies and storage of every origin, not only of the page currently shown
+     * Chromium clears each visited or cookie-setting origin through CDP; other BiDi browsers delete
+     * all cookies through storage.deleteCookies (their other origins' web storage cannot be reached).
+     */
+    private static void clearAllOrigins(WebDriver driver, Set<String> origins) {
+        try {
+            if (driver instanceof HasCdp) {
+                HasCdp cdp = (HasCdp) driver;
+                Map<String, Object> cookies = cdp.executeCdpCommand("Network.getAllCookies", Map.of());
+                for (Object cookie : (List<?>) cookies.get("cookies")) {
+                    String domain = String.valueOf(((Map<?, ?>) cookie).get("domain")).replaceFirst("^\\.", "");
+                    origins.add("https://" + domain);
+                    origins.add("http://" + domain);
+                }
+                for (String origin : origins) {
+                    cdp.executeCdpCommand("Storage.clearDataForOrigin", Map.of("origin", origin, "storageTypes", "all"));
+                }
+                cdp.executeCdpCommand("Network.clearBrowserCookies", Map.of());
+                return;
+            }
+            if (driver instanceof HasBiDi && ((HasBiDi) driver).maybeGetBiDi().isPresent()) {
+                new Storage(driver).deleteCookies(new DeleteCookiesParameters(new CookieFilter()));
+                return;
+            }
+        } catch (RuntimeException e) {
+            System.err.println("⚠️ Could not clear all origins, clearing the current one only: " + e.getMessage());
+        }
+        driver.manage().deleteAllCookies();
+    }
+
+    private static void addOrigin(Set<String> origins, String url) {
+        if (url.startsWith("http://") || url.startsWith("https://")) {
+            URI uri = URI.create(url);
+            origins.add(uri.getScheme() + "://" + uri.getRawAuthority());
+        }
+    }
+
+    private void discard(PooledDriver pooled) {
+        size.decrementAndGet();
+        WebDriverFactory.quitDriver(pooled.driver);
+    }
+
+    private static final class PooledDriver {
+        private final WebDriver driver;
+        private String homeHandle;
+        private int uses;
+
+        private PooledDriver(WebDriver driver) {
+            this.driver = driver;
+            try {
+                this.homeHandle = driver.getWindowHandle();
+            } catch (Exception e) {
+                this.homeHandle = null;
+            }
+        }
+    }
+
+    /**
+     * Counters describing how well the pool is absorbing session startup cost
+     */
+    public static final class PoolMetrics {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+        private final LongAdder recycles = new LongAdder();
+        private final LongAdder unhealthy = new LongAdder();
+        private final LongAdder totalLeaseWaitNanos = new LongAdder();
+        private final AtomicLong maxLeaseWaitNanos = new AtomicLong();
+
+        private void recordLease(long waitNanos) {
+            totalLeaseWaitNanos.add(waitNanos);
+            maxLeaseWaitNanos.accumulateAndGet(waitNanos, Math::max);
+        }
+
+        public long getLeases() {
+            return hits.sum() + misses.sum();
+        }
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+
+        public long getRecycles() {
+            return recycles.sum();
+        }
+
+        public long getUnhealthy() {
+            return unhealthy.sum();
+        }
+
+        public double getHitRate() {
+            long leases = getLeases();
+            return leases == 0 ? 0.0 : (double) getHits() / leases;
+        }
+
+        public double getAverageLeaseWaitMillis() {
+            long leases = getLeases();
+            return leases == 0 ? 0.0 : totalLeaseWaitNanos.sum() / 1_000_000.0 / leases;
+        }
+
+        public double getMaxLeaseWaitMillis() {
+            return maxLeaseWaitNanos.get() / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Leases: %d (hits %d, misses %d, hit rate %.1f%%)%n"
+                            + "Lease wait: avg %.1f ms, max %.1f ms%n"
+                            + "Recycled: %d, Discarded unhealthy: %d",
+                    getLeases(), getHits(), getMisses(), getHitRate() * 100,
+                    getAverageLeaseWaitMillis(), getMaxLeaseWaitMillis(),
+                    getRecycles(), getUnhealthy());
+        }
+    }
+}
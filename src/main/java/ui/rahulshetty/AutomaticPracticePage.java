@@ -3,7 +3,6 @@ package ui.rahulshetty;
 import ui.component.BaseComponent;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 
 public class AutomaticPracticePage extends BaseComponent {
     WebDriver driver;
@@ -14,7 +13,6 @@ public class AutomaticPracticePage extends BaseComponent {
     public AutomaticPracticePage(WebDriver driver) {
         super(driver);
         this.driver = driver;
-        PageFactory.initElements(driver,this);
     }
 
     public String getSiblingButtonText() {
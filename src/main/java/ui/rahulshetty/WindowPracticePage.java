@@ -1,8 +1,8 @@
 package ui.rahulshetty;
 
 import ui.component.BaseComponent;
+import ui.component.CachingElementLocatorFactory;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
 
 public class WindowPracticePage extends BaseComponent {
     WebDriver driver;
@@ -10,7 +10,6 @@ public class WindowPracticePage extends BaseComponent {
     public WindowPracticePage(WebDriver driver) {
         super(driver);
         this.driver = driver;
-        PageFactory.initElements(driver,this);
     }
 
     public void maximizeWindow() {
@@ -19,9 +18,11 @@ public class WindowPracticePage extends BaseComponent {
 
     public void navigateBack() {
         driver.navigate().back();
+        CachingElementLocatorFactory.invalidate(driver);
     }
 
     public void navigateForward() {
         driver.navigate().forward();
+        CachingElementLocatorFactory.invalidate(driver);
     }
 }
@@ -23,15 +23,12 @@ public class CartPage extends BaseComponent {
     }
 
     public boolean verifyProductDisplay(String productName) {
-        return cartProducts.stream()
-                .anyMatch(cartProduct -> cartProduct.getText()
-                        .equalsIgnoreCase(productName));
+        return getTexts(cartProducts).stream()
+                .anyMatch(name -> name.equalsIgnoreCase(productName));
     }
 
     public List<String> getCartProducts() {
-        return cartProducts.stream()
-                .map(WebElement::getText)
-                .toList();
+        return getTexts(cartProducts);
     }
 
     public int getCartItemsCount() {
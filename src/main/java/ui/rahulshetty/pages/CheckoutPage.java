@@ -6,12 +6,15 @@ package ui.rahulshetty.pages;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.interactions.Actions;
 import org.openqa.selenium.support.FindBy;
 import ui.component.BaseComponent;
+import ui.component.InputMode;
+import ui.component.InputStrategy;
 
 public class CheckoutPage extends BaseComponent {
 
+    // Typeahead: only the last keystroke needs real key events to open the suggestions
+    @InputMode(InputStrategy.HYBRID)
     @FindBy(css = "[placeholder='Select Country']")
     private WebElement selectCountryTextBox;
 
@@ -28,8 +31,7 @@ public class CheckoutPage extends BaseComponent {
     }
 
     public void selectCountry(String countryName) {
-        Actions a = new Actions(driver);
-        a.sendKeys(selectCountryTextBox, countryName).build().perform();
+        type(selectCountryTextBox, countryName);
         waitForElementToAppear(dropdownResult);
     }
 
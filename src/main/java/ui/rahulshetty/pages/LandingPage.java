@@ -3,14 +3,27 @@
 // ========================================
 package ui.rahulshetty.pages;
 
+import api.AuthApi;
+import config.Config;
+import org.openqa.selenium.By;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import ui.component.BaseComponent;
+import ui.component.CachingElementLocatorFactory;
+import ui.driver.SessionCache;
+import ui.driver.SessionState;
+
+import java.time.Duration;
+import java.util.Map;
 
 public class LandingPage extends BaseComponent {
 
-    private static final String PAGE_URL = "https://rahulshettyacademy.com/client";
+    public static final String PAGE_URL = "https://rahulshettyacademy.com/client";
+    // localStorage key the client app reads its session token from
+    private static final String TOKEN_KEY = "token";
 
     @FindBy(id = "userEmail")
     private WebElement userEmail;
@@ -24,6 +37,10 @@ public class LandingPage extends BaseComponent {
     @FindBy(css = "[class*='flyInOut']")
     private WebElement errorMessage;
 
+    private By errorMessageBy = By.cssSelector("[class*='flyInOut']");
+    private By userEmailBy = By.id("userEmail");
+    private By catalogueBy = By.cssSelector(".mb-3");
+
     public LandingPage(WebDriver driver) {
         super(driver);
     }
@@ -40,15 +57,79 @@ public class LandingPage extends BaseComponent {
         return new ProductCataloguePage(driver);
     }
 
+    /**
+     * Start a logged-in session for tests that are not about the login form itself
+     * Restores the user's cached session (session.cache) when there is a valid one; otherwise uses
+     * the login API and injects the token (login.api), or logs in through the form when that fails.
+     */
+    public ProductCataloguePage login(String email, String password) {
+        return login(email, password, null);
+    }
+
+    /**
+     * Like login(email, password), reusing a token already issued by the login API for this user
+     * (e.g. the one test data was seeded with) instead of requesting another one
+     * @param token Token to inject when a fresh login is needed; null to request one
+     */
+    public ProductCataloguePage login(String email, String password, AuthApi.AuthToken token) {
+        if (Config.isSessionCacheEnabled()) {
+            SessionCache.login(driver, email, PAGE_URL, () -> freshLogin(email, password, token),
+                    d -> isLoginFormShown());
+        } else {
+            freshLogin(email, password, token);
+        }
+        CachingElementLocatorFactory.invalidate(driver);
+        return new ProductCataloguePage(driver);
+    }
+
+    private void freshLogin(String email, String password, AuthApi.AuthToken token) {
+        if (Config.isApiLoginEnabled()) {
+            AuthApi.AuthToken auth = token != null ? token : AuthApi.forSite(PAGE_URL).login(email, password);
+            if (auth != null) {
+                try {
+                    SessionState.ofLocalStorage(PAGE_URL, Map.of(TOKEN_KEY, auth.getToken())).restore(driver, PAGE_URL);
+                    return;
+                } catch (WebDriverException e) {
+                    // e.g. the bootstrap page did not load and its document has no storage
+                    System.out.println("⚠️ Could not restore the API session: " + String.valueOf(e.getMessage()).lines().findFirst().orElse(""));
+                }
+            }
+            System.out.println("⚠️ Logging in through the login page instead");
+        }
+        goTo();
+        loginApplication(email, password);
+        try {
+            waitForElementToDisappear(userEmailBy);
+        } catch (TimeoutException e) {
+            // Rejected - stay on the form and let the caller find out
+        }
+    }
+
+    /**
+     * Wait until the client shows either the login form or the catalogue
+     * @return true if it shows the login form or neither in time, i.e. the browser is not logged in
+     */
+    private boolean isLoginFormShown() {
+        try {
+            waitEngine().until(d -> !d.findElements(userEmailBy).isEmpty() || !d.findElements(catalogueBy).isEmpty(),
+                    Duration.ofSeconds(timeOut));
+        } catch (TimeoutException e) {
+            // Neither rendered - treat it like an expired session so a fresh login is done
+            return true;
+        }
+        return isPresent(userEmailBy);
+    }
+
     public String getErrorMessage() {
         waitForElementToAppear(errorMessage);
         return getText(errorMessage);
     }
 
     public boolean isErrorDisplayed() {
+        // Located by By so each poll is a single lookup instead of an implicit-wait block
         try {
-            waitForElementToAppear(errorMessage, 3);
-            return isDisplayed(errorMessage);
+            waitForElementToAppear(errorMessageBy, 3);
+            return isDisplayed(errorMessageBy);
         } catch (Exception e) {
             return false;
         }
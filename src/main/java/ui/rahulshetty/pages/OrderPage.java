@@ -23,15 +23,12 @@ public class OrderPage extends BaseComponent {
     }
 
     public boolean verifyOrderDisplay(String productName) {
-        return orderProducts.stream()
-                .anyMatch(orderProduct -> orderProduct.getText()
-                        .equalsIgnoreCase(productName));
+        return getTexts(orderProducts).stream()
+                .anyMatch(name -> name.equalsIgnoreCase(productName));
     }
 
     public List<String> getOrderedProducts() {
-        return orderProducts.stream()
-                .map(WebElement::getText)
-                .toList();
+        return getTexts(orderProducts);
     }
 
     public int getOrdersCount() {
@@ -4,12 +4,22 @@
 package ui.rahulshetty.pages;
 
 import org.openqa.selenium.By;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
 import ui.component.BaseComponent;
+import ui.component.BatchReader;
+import ui.component.PinnedScript;
+import ui.component.WaitStrategy;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 public class ProductCataloguePage extends BaseComponent {
 
@@ -26,9 +36,42 @@ public class ProductCataloguePage extends BaseComponent {
     private By addToCartBy = By.cssSelector(".card-body button:last-of-type");
     private By toastMessage = By.cssSelector("#toast-container");
     private By spinner = By.cssSelector(".ng-animating");
+    private By cartBadgeBy = By.cssSelector("[routerlink*='cart'] label");
+
+    // Reports whether product cards were added or removed since the last call and resets the flag;
+    // a new document counts as changed
+    private static final PinnedScript CATALOGUE_CHANGED = new PinnedScript("catalogueChanged", String.join("\n",
+            "var watch = window.__catalogueWatch;",
+            "if (!watch) {",
+            "  watch = window.__catalogueWatch = {changed: true};",
+            "  var isCard = function (node) {",
+            "    return node.nodeType === 1 && (node.matches('.mb-3') || !!node.querySelector('.mb-3'));",
+            "  };",
+            "  new MutationObserver(function (mutations) {",
+            "    mutations.forEach(function (m) {",
+            "      if (Array.prototype.some.call(m.addedNodes, isCard) || Array.prototype.some.call(m.removedNodes, isCard)) {",
+            "        watch.changed = true;",
+            "      }",
+            "    });",
+            "  }).observe(document.body, {childList: true, subtree: true});",
+            "}",
+            "var changed = watch.changed;",
+            "watch.changed = false;",
+            "return changed;"));
+
+    private static final PinnedScript ADD_BUTTONS = new PinnedScript("addButtons", String.join("\n",
+            "var selector = arguments[1];",
+            "return arguments[0].map(function (card) { return card.querySelector(selector); });"));
+
+    private Map<String, WebElement> index;
+    private final Map<String, String> namesByLowerCase = new HashMap<>();
 
     public ProductCataloguePage(WebDriver driver) {
         super(driver);
+        declareWait(productsBy, WaitStrategy.PRESENCE);
+        declareWait(addToCartBy, WaitStrategy.CLICKABLE);
+        declareWait(toastMessage, WaitStrategy.VISIBILITY);
+        declareWait(spinner, WaitStrategy.ABSENT);
     }
 
     public List<WebElement> getProductList() {
@@ -37,21 +80,130 @@ public class ProductCataloguePage extends BaseComponent {
     }
 
     public WebElement getProductByName(String productName) {
-        return products.stream()
-                .filter(product -> product.findElement(By.cssSelector("b"))
-                        .getText().equals(productName))
-                .findFirst()
-                .orElse(null);
+        return catalogue().get(productName);
+    }
+
+    public WebElement getProductByNameIgnoreCase(String productName) {
+        Map<String, WebElement> index = catalogue();
+        String name = namesByLowerCase.get(productName.toLowerCase());
+        return name == null ? null : index.get(name);
+    }
+
+    /**
+     * Product names starting with a prefix (case-insensitive), in catalogue order
+     */
+    public List<String> findProductNamesByPrefix(String prefix) {
+        String lower = prefix.toLowerCase();
+        return catalogue().keySet().stream()
+                .filter(name -> name.toLowerCase().startsWith(lower))
+                .toList();
+    }
+
+    public List<String> getProductNames() {
+        return new ArrayList<>(catalogue().keySet());
     }
 
     public void addProductToCart(String productName) {
         WebElement prod = getProductByName(productName);
         if (prod != null) {
-            waitForElementToAppear(addToCartBy);
+            waitFor(addToCartBy);
             prod.findElement(addToCartBy).click();
-            waitForElementToAppear(toastMessage);
-            waitForElementToDisappear(spinner);
+            // The toast only signals the add-to-cart request finished - Angular can tell us directly
+            if (!angularSettled()) {
+                waitFor(toastMessage);
+            }
+            waitFor(spinner);
+        }
+    }
+
+    /**
+     * Add several products, clicking all add buttons back to back and waiting for the cart badge once
+     * @throws IllegalArgumentException if a product is not in the catalogue
+     */
+    public void addProductsToCart(List<String> productNames) {
+        Map<String, WebElement> index = catalogue();
+        List<WebElement> cards = new ArrayList<>();
+        for (String name : productNames) {
+            WebElement card = index.get(name);
+            if (card == null) {
+                throw new IllegalArgumentException("Product not in catalogue: " + name);
+            }
+            cards.add(card);
         }
+        int expected = settledCartCount() + cards.size();
+
+        // One script call returns every add button; the clicks are then issued without waits in between
+        for (WebElement button : addButtons(cards)) {
+            try {
+                button.click();
+            } catch (ElementClickInterceptedException e) {
+                // A toast from the previous add covers the button - wait it out
+                click(button);
+            }
+        }
+        waitEngine().until(d -> cartCount() == expected, Duration.ofSeconds(timeOut));
+        waitFor(spinner);
+    }
+
+    /**
+     * Cart count once the app has loaded it from the server (the badge is filled in after page load)
+     */
+    private int settledCartCount() {
+        if (!angularSettled()) {
+            waitForNetworkIdle();
+        }
+        return cartCount();
+    }
+
+    /**
+     * @return false when the page is not Angular or Angular stays busy (e.g. a polling timer),
+     * so the caller falls back to its own wait
+     */
+    private boolean angularSettled() {
+        try {
+            return waitForAngular();
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Count shown in the cart badge; the badge may not exist while the cart is empty
+     */
+    private int cartCount() {
+        List<BatchReader.ElementSnapshot> badge = BatchReader.read(driver, cartBadgeBy, null);
+        return parseCount(badge.isEmpty() ? "" : badge.get(0).getText());
+    }
+
+    // ======================
+    // Catalogue index
+    // ======================
+    /**
+     * Name -> card index, rebuilt only when cards were added or removed since the last build
+     */
+    private Map<String, WebElement> catalogue() {
+        // The flag is reset before the cards are read, so changes during the read are not lost
+        boolean changed = Boolean.TRUE.equals(CATALOGUE_CHANGED.execute(driver));
+        if (index == null || changed) {
+            Map<String, WebElement> rebuilt = new LinkedHashMap<>();
+            namesByLowerCase.clear();
+            for (BatchReader.ElementSnapshot card : readAllWithin(productsBy, "b")) {
+                rebuilt.putIfAbsent(card.getText(), card.getElement());
+                namesByLowerCase.putIfAbsent(card.getText().toLowerCase(), card.getText());
+            }
+            index = rebuilt;
+        }
+        return index;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<WebElement> addButtons(List<WebElement> cards) {
+        return (List<WebElement>) ADD_BUTTONS.execute(driver, cards, "button:last-of-type");
+    }
+
+    private static int parseCount(String text) {
+        String digits = text.replaceAll("\\D", "");
+        return digits.isEmpty() ? 0 : Integer.parseInt(digits);
     }
 
     public CartPage goToCart() {
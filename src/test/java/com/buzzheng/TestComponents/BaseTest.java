@@ -1,16 +1,49 @@
 package com.buzzheng.TestComponents;
 
+import api.AuthApi;
+import api.CartApi;
 import config.Config;
 import org.apache.logging.log4j.ThreadContext;
+import ui.component.Actionability;
+import ui.component.AngularWait;
+import ui.component.CachingElementLocatorFactory;
+import ui.component.InputFiller;
+import ui.component.MutationWait;
+import ui.component.PageBindings;
+import ui.component.PinnedScript;
+import ui.component.WaitEngine;
+import ui.component.WaitSavings;
+import ui.driver.BrowserContextManager;
+import ui.driver.DriverPrewarmer;
+import ui.driver.GridAdmissionController;
+import ui.driver.GridTransport;
+import ui.driver.LazyNavigation;
+import ui.driver.NetworkBlocker;
+import ui.driver.NetworkIdleMonitor;
+import ui.driver.ProfileTemplate;
+import ui.driver.SessionCache;
+import ui.driver.StartupProfiler;
 import ui.driver.WebDriverFactory;
+import ui.driver.WebDriverPool;
 import utils.ScreenshotUtils;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.JavascriptExecutor;
 import org.testng.annotations.*;
+import org.testng.ITestContext;
 import org.testng.ITestResult;
+import ui.rahulshetty.pages.LandingPage;
 
+import java.lang.reflect.Method;
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Base test class for all test implementations
@@ -21,6 +54,12 @@ public class BaseTest {
     // Thread-safe WebDriver instances for parallel execution
     private static final ThreadLocal<WebDriver> driverThreadLocal = new ThreadLocal<>();
     private static final ThreadLocal<WebDriverWait> waitThreadLocal = new ThreadLocal<>();
+    // User -> token of the cart the current test seeded (null if the API login failed); tearDown empties it
+    private static final ThreadLocal<Map<String, AuthApi.AuthToken>> seededCarts = ThreadLocal.withInitial(LinkedHashMap::new);
+    // Tests per <test> tag that have acquired a driver (the pre-warmer stops launching after the last one)
+    private static final Map<ITestContext, AtomicInteger> testsStarted = new ConcurrentHashMap<>();
+    // Held from seeding until tearDown, so parallel tests of one user do not replace and empty each other's cart
+    private static final Map<String, ReentrantLock> cartLocks = new ConcurrentHashMap<>();
 
     protected WebDriver driver;
     protected WebDriverWait wait;
@@ -34,10 +73,40 @@ public class BaseTest {
         System.out.println("\n🚀 Starting Test Suite Execution");
         Config.printConfiguration();
         ScreenshotUtils.createScreenshotDirectory();
+
+        if (Config.isDriverPoolEnabled()) {
+            WebDriverPool.getInstance().warmUp();
+        } else if (Config.isDriverPrewarmEnabled()) {
+            DriverPrewarmer.warmUp(Math.max(1, Config.getThreadCount()));
+        }
     }
 
     @AfterSuite(alwaysRun = true)
     public void suiteTeardown() {
+        if (Config.isDriverPoolEnabled()) {
+            WebDriverPool.getInstance().shutdown();
+        } else if (Config.isDriverPrewarmEnabled()) {
+            DriverPrewarmer.shutdown();
+        }
+        BrowserContextManager.shutdown();
+        GridTransport.printLatencySummary();
+        GridAdmissionController.printStatistics();
+        ProfileTemplate.cleanup();
+        WaitEngine.printStatistics();
+        WaitSavings.printStatistics();
+        MutationWait.printComparison();
+        AngularWait.printStatistics();
+        Actionability.printStatistics();
+        PinnedScript.printStatistics();
+        InputFiller.printStatistics();
+        CachingElementLocatorFactory.printStatistics();
+        PageBindings.printStatistics();
+        NetworkIdleMonitor.printStatistics();
+        LazyNavigation.printStatistics();
+        AuthApi.printStatistics();
+        SessionCache.printStatistics();
+        CartApi.printStatistics();
+        StartupProfiler.writeSummary();
         System.out.println("\n✅ Test Suite Execution Completed");
     }
 
@@ -54,10 +123,19 @@ public class BaseTest {
         System.out.println("\n🔧 Setting up test: " + className + "." + testName);
 
         try {
-            // Create WebDriver instance
-            WebDriver webDriver = WebDriverFactory.createDriver();
+            // Create WebDriver instance (or lease a warm one from the pool / pre-warmer)
+            WebDriver webDriver = acquireDriver(result);
             driverThreadLocal.set(webDriver);
             this.driver = webDriver;
+            // Count blocked requests from here on (a pooled driver may carry a previous test's)
+            NetworkBlocker.drainStatistics(webDriver);
+            // Subscribe to network events before the first navigation
+            NetworkIdleMonitor.forDriver(webDriver);
+
+            long queueWait = GridAdmissionController.getLastQueueWaitMillis();
+            if (queueWait > 0) {
+                System.out.println("⏳ Grid queue wait for " + testName + ": " + queueWait + "ms");
+            }
 
             // Create WebDriverWait instance
             WebDriverWait webDriverWait = new WebDriverWait(webDriver, Duration.ofSeconds(Config.getExplicitTimeout()));
@@ -69,9 +147,20 @@ public class BaseTest {
                 driver.manage().window().maximize();
             }
 
-            // Navigate to base URL
-            driver.get(Config.getBaseUrl());
-            waitForPageLoad();
+            // Navigate to the declared start URL, or to the base URL once a page is first needed
+            String startUrl = getStartUrl(result);
+            if (startUrl != null) {
+                LazyNavigation.navigateNow(webDriver, startUrl);
+            } else if (Config.isLazyNavigationEnabled()) {
+                LazyNavigation.defer(webDriver, Config.getBaseUrl());
+            } else {
+                long navigationStart = System.nanoTime();
+                StartupProfiler.time(StartupProfiler.INITIAL_NAVIGATION, () -> {
+                    driver.get(Config.getBaseUrl());
+                    waitForPageLoad();
+                });
+                ProfileTemplate.recordFirstLoad(webDriver, System.nanoTime() - navigationStart);
+            }
 
             System.out.println("✅ Test setup completed for: " + testName);
 
@@ -90,16 +179,28 @@ public class BaseTest {
         String testName = result.getMethod().getMethodName();
         String className = result.getTestClass().getRealClass().getSimpleName();
 
-        // Take screenshot on failure
-        if (result.getStatus() == ITestResult.FAILURE) {
-            ScreenshotUtils.takeScreenshotOnFailure(driver, className + "_" + testName);
+        try {
+            // Take screenshot on failure
+            if (result.getStatus() == ITestResult.FAILURE) {
+                ScreenshotUtils.takeScreenshotOnFailure(driver, className + "_" + testName);
+            }
+        } finally {
+            emptySeededCarts();
         }
 
-        // Quit WebDriver
+        // Quit WebDriver (or hand it back to the pool for reset)
         WebDriver webDriver = driverThreadLocal.get();
         if (webDriver != null) {
+            // A start page the test never needed is not loaded at all
+            LazyNavigation.cancel(webDriver);
+            reportBlockedRequests(webDriver, testName);
+            WaitSavings.reportTest(testName);
             try {
-                WebDriverFactory.quitDriver(webDriver);
+                if (Config.isDriverPoolEnabled()) {
+                    WebDriverPool.getInstance().release(webDriver);
+                } else {
+                    WebDriverFactory.quitDriver(webDriver);
+                }
                 System.out.println("✅ Test teardown completed for: " + testName);
             } catch (Exception e) {
                 System.err.println("❌ Error during teardown for: " + testName);
@@ -135,6 +236,118 @@ public class BaseTest {
     // Utility Methods
     // ======================
 
+    /**
+     * Give a user's cart exactly these products through the backend API; it is emptied again after the test
+     * Tests seeding the same user run one after the other from here until their tearDown.
+     * @return Token the cart was seeded with (pass it on to LandingPage.login), or null if the API could
+     *         not be used - fill the cart through the UI instead
+     * @throws IllegalStateException if another test holds the user's cart for longer than timeout.cart.seed
+     */
+    protected AuthApi.AuthToken seedCart(String email, String password, List<String> productNames) {
+        Map<String, AuthApi.AuthToken> seeded = seededCarts.get();
+        if (!seeded.containsKey(email)) {
+            lockCart(email);
+            // Registered as soon as it is locked, so tearDown releases it whatever happens from here
+            seeded.put(email, null);
+        }
+        AuthApi.AuthToken auth = AuthApi.forSite(LandingPage.PAGE_URL).login(email, password);
+        seeded.put(email, auth);
+        if (auth == null) {
+            return null;
+        }
+        CartApi cart = CartApi.forSite(LandingPage.PAGE_URL);
+        if (!cart.replaceCart(auth, productNames)) {
+            // Let the UI fallback start from an empty cart instead of a partly seeded one
+            cart.clearCart(auth);
+            return null;
+        }
+        System.out.println("🛒 Seeded cart of " + email + " with " + productNames);
+        return auth;
+    }
+
+    private static void lockCart(String email) {
+        try {
+            if (!cartLocks.computeIfAbsent(email, e -> new ReentrantLock())
+                    .tryLock(Config.getCartSeedTimeout(), TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Cart of " + email + " still in use by another test after "
+                        + Config.getCartSeedTimeout() + "s");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted waiting for the cart of " + email, e);
+        }
+    }
+
+    private void emptySeededCarts() {
+        for (Map.Entry<String, AuthApi.AuthToken> seeded : seededCarts.get().entrySet()) {
+            try {
+                if (seeded.getValue() != null) {
+                    CartApi.forSite(LandingPage.PAGE_URL).clearCart(seeded.getValue());
+                }
+            } catch (RuntimeException e) {
+                System.err.println("❌ Could not empty the cart of " + seeded.getKey() + ": " + e.getMessage());
+            } finally {
+                cartLocks.get(seeded.getKey()).unlock();
+            }
+        }
+        seededCarts.remove();
+    }
+
+    /**
+     * Print how many requests the network blocking profile saved during the test
+     */
+    private void reportBlockedRequests(WebDriver webDriver, String testName) {
+        Map<String, Long> stats = NetworkBlocker.drainStatistics(webDriver);
+        if (stats.isEmpty()) {
+            return;
+        }
+        long blocked = stats.values().stream().mapToLong(Long::longValue).sum();
+        System.out.println("🚫 Blocked " + blocked + " request(s) in " + testName + " " + stats);
+    }
+
+    /**
+     * Start URL declared with @StartUrl on the test method or its class
+     * @return Absolute URL, or null if none is declared
+     */
+    private String getStartUrl(ITestResult result) {
+        Method method = result.getMethod().getConstructorOrMethod().getMethod();
+        StartUrl startUrl = method.getAnnotation(StartUrl.class);
+        if (startUrl == null) {
+            startUrl = result.getTestClass().getRealClass().getAnnotation(StartUrl.class);
+        }
+        if (startUrl == null) {
+            return null;
+        }
+        return startUrl.value().startsWith("http") ? startUrl.value() : Config.getBaseUrl() + startUrl.value();
+    }
+
+    /**
+     * Obtain a WebDriver according to the configured creation strategy
+     * Tests in a group listed in browser.context.groups get an isolated context of a shared browser
+     */
+    private WebDriver acquireDriver(ITestResult result) {
+        List<String> contextGroups = Config.getBrowserContextGroups();
+        if (contextGroups.contains("*")
+                || Arrays.stream(result.getMethod().getGroups()).anyMatch(contextGroups::contains)) {
+            return WebDriverFactory.createContextDriver();
+        }
+        if (Config.isDriverPoolEnabled()) {
+            return WebDriverPool.getInstance().lease();
+        }
+        if (Config.isDriverPrewarmEnabled()) {
+            return DriverPrewarmer.acquire(testsLeft(result.getTestContext()));
+        }
+        return WebDriverFactory.createDriver();
+    }
+
+    /**
+     * Tests of the <test> that have not started yet (counting the current one as started)
+     */
+    private static int testsLeft(ITestContext context) {
+        int started = testsStarted.computeIfAbsent(context, c -> new AtomicInteger()).incrementAndGet();
+        return Math.max(0, context.getAllTestMethods().length - started);
+    }
+
     /**
      * Wait for page to load completely
      */
@@ -145,6 +358,8 @@ public class BaseTest {
                         .executeScript("return document.readyState").toString();
                 return "complete".equals(readyState);
             });
+            // readyState is complete long before the SPA's XHRs finish
+            NetworkIdleMonitor.waitForIdle(driver);
         }
     }
 
@@ -190,8 +405,13 @@ public class BaseTest {
         if (driver != null) {
             String fullUrl = Config.getBaseUrl() + relativePath;
             System.out.println("🔗 Navigating to: " + fullUrl);
+            long start = System.nanoTime();
+            LazyNavigation.cancel(driver);
             driver.get(fullUrl);
+            CachingElementLocatorFactory.invalidate(driver);
             waitForPageLoad();
+            System.out.println("🔗 Loaded " + fullUrl + " in " + (System.nanoTime() - start) / 1_000_000
+                    + "ms (network idle wait " + NetworkIdleMonitor.getLastWaitMillis() + "ms)");
         }
     }
 
@@ -200,9 +420,16 @@ public class BaseTest {
      */
     protected void refreshPage() {
         if (driver != null) {
+            if (LazyNavigation.ensureNavigated(driver)) {
+                return; // Freshly loaded already
+            }
             System.out.println("🔄 Refreshing page");
+            long start = System.nanoTime();
             driver.navigate().refresh();
+            CachingElementLocatorFactory.invalidate(driver);
             waitForPageLoad();
+            System.out.println("🔄 Reloaded in " + (System.nanoTime() - start) / 1_000_000
+                    + "ms (network idle wait " + NetworkIdleMonitor.getLastWaitMillis() + "ms)");
         }
     }
 
@@ -210,13 +437,21 @@ public class BaseTest {
      * Get current page title
      */
     protected String getPageTitle() {
-        return driver != null ? driver.getTitle() : null;
+        if (driver == null) {
+            return null;
+        }
+        LazyNavigation.ensureNavigated(driver);
+        return driver.getTitle();
     }
 
     /**
      * Get current page URL
      */
     protected String getCurrentUrl() {
-        return driver != null ? driver.getCurrentUrl() : null;
+        if (driver == null) {
+            return null;
+        }
+        LazyNavigation.ensureNavigated(driver);
+        return driver.getCurrentUrl();
     }
 }
\ No newline at end of file
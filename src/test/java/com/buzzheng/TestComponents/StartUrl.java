@@ -0,0 +1,17 @@
+package com.buzzheng.TestComponents;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Page a UI test starts on; BaseTest.setUp loads it directly instead of the base URL
+ * A value starting with "http" is used as is, anything else is appended to base.url.
+ * On a method it overrides the class-level declaration.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface StartUrl {
+    String value();
+}
@@ -0,0 +1,114 @@
+package com.buzzheng.TestComponents;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal local stand-in for a Selenium Grid
+ * Serves /status with a fixed number of slots and accepts /session requests,
+ * rejecting new sessions once every slot is busy (like a saturated grid).
+ */
+public class StubGridServer implements AutoCloseable {
+
+    private final HttpServer server;
+    private final int slots;
+    private final String browserName;
+    private final Set<String> sessions = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger maxConcurrentSessions = new AtomicInteger();
+    private final AtomicInteger rejectedSessions = new AtomicInteger();
+
+    public StubGridServer(int slots, String browserName) throws IOException {
+        this.slots = slots;
+        this.browserName = browserName;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    public String getUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    public int getActiveSessions() {
+        return sessions.size();
+    }
+
+    public int getMaxConcurrentSessions() {
+        return maxConcurrentSessions.get();
+    }
+
+    public int getRejectedSessions() {
+        return rejectedSessions.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        exchange.getRequestBody().readAllBytes();
+
+        if ("GET".equals(method) && path.endsWith("/status")) {
+            respond(exchange, 200, statusJson());
+        } else if ("POST".equals(method) && path.endsWith("/session")) {
+            createSession(exchange);
+        } else if ("DELETE".equals(method) && path.matches(".*/session/[^/]+")) {
+            sessions.remove(path.substring(path.lastIndexOf('/') + 1));
+            respond(exchange, 200, "{\"value\":null}");
+        } else {
+            respond(exchange, 200, "{\"value\":null}");
+        }
+    }
+
+    private synchronized void createSession(HttpExchange exchange) throws IOException {
+        if (sessions.size() >= slots) {
+            rejectedSessions.incrementAndGet();
+            respond(exchange, 500, "{\"value\":{\"error\":\"session not created\","
+                    + "\"message\":\"No free slots\",\"stacktrace\":\"\"}}");
+            return;
+        }
+        String sessionId = UUID.randomUUID().toString().replace("-", "");
+        sessions.add(sessionId);
+        maxConcurrentSessions.accumulateAndGet(sessions.size(), Math::max);
+        respond(exchange, 200, "{\"value\":{\"sessionId\":\"" + sessionId + "\","
+                + "\"capabilities\":{\"browserName\":\"" + browserName + "\"}}}");
+    }
+
+    private synchronized String statusJson() {
+        StringBuilder slotsJson = new StringBuilder();
+        int busy = sessions.size();
+        for (int i = 0; i < slots; i++) {
+            if (i > 0) {
+                slotsJson.append(',');
+            }
+            String session = i < busy ? "{\"sessionId\":\"busy-" + i + "\"}" : "null";
+            slotsJson.append("{\"stereotype\":{\"browserName\":\"").append(browserName)
+                    .append("\"},\"session\":").append(session).append('}');
+        }
+        return "{\"value\":{\"ready\":" + (busy < slots) + ",\"nodes\":[{\"availability\":\"UP\","
+                + "\"slots\":[" + slotsJson + "]}]}}";
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
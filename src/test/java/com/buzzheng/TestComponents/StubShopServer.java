@@ -0,0 +1,176 @@
+package com.buzzheng.TestComponents;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal local stand-in for the shop's backend API
+ * Serves login, the product list and the cart endpoints for the registered users and products,
+ * answering like the real service, so API helpers can run offline.
+ */
+public class StubShopServer implements AutoCloseable {
+
+    private static final Json JSON = new Json();
+
+    private final HttpServer server;
+    // email -> password
+    private final Map<String, String> users = new ConcurrentHashMap<>();
+    // token -> email
+    private final Map<String, String> tokens = new ConcurrentHashMap<>();
+    // product name -> product
+    private final Map<String, Map<String, Object>> products = new ConcurrentHashMap<>();
+    // user id -> products in the cart, guarded by carts
+    private final Map<String, List<Map<?, ?>>> carts = new LinkedHashMap<>();
+    private final AtomicInteger loginRequests = new AtomicInteger();
+
+    public StubShopServer() throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        this.server.createContext("/", this::handle);
+        this.server.setExecutor(Executors.newCachedThreadPool());
+        this.server.start();
+    }
+
+    /**
+     * API root to configure as api.base.url
+     */
+    public String getApiUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + "/api";
+    }
+
+    public StubShopServer withUser(String email, String password) {
+        users.put(email, password);
+        return this;
+    }
+
+    public StubShopServer withProduct(String name) {
+        Map<String, Object> product = new LinkedHashMap<>();
+        product.put("_id", Integer.toHexString(name.hashCode()));
+        product.put("productName", name);
+        product.put("productPrice", 100);
+        products.put(name, product);
+        return this;
+    }
+
+    /**
+     * Put a product into a user's cart directly (e.g. leftovers of an earlier test)
+     */
+    public void addToCart(String email, String productName) {
+        synchronized (carts) {
+            carts.computeIfAbsent(userId(email), id -> new ArrayList<>()).add(products.get(productName));
+        }
+    }
+
+    /**
+     * Names of the products in a user's cart
+     */
+    public List<String> getCart(String email) {
+        List<String> names = new ArrayList<>();
+        synchronized (carts) {
+            for (Map<?, ?> product : carts.getOrDefault(userId(email), List.of())) {
+                names.add(String.valueOf(product.get("productName")));
+            }
+        }
+        return names;
+    }
+
+    public int getLoginRequests() {
+        return loginRequests.get();
+    }
+
+    /**
+     * Email of the user a token was issued to, or null for an unknown token
+     */
+    public String getUser(String token) {
+        return token == null ? null : tokens.get(token);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+
+        if ("POST".equals(method) && path.equals("/api/ecom/auth/login")) {
+            login(exchange, body);
+        } else if (getUser(exchange.getRequestHeaders().getFirst("Authorization")) == null) {
+            respond(exchange, 401, JSON.toJson(Map.of("message", "Unauthorized")));
+        } else if ("POST".equals(method) && path.equals("/api/ecom/product/get-all-products")) {
+            respond(exchange, 200, JSON.toJson(Map.of("data", new ArrayList<>(products.values()),
+                    "message", "All Products fetched Successfully")));
+        } else if ("GET".equals(method) && path.startsWith("/api/ecom/user/get-cart-products/")) {
+            cartProducts(exchange, path.substring(path.lastIndexOf('/') + 1));
+        } else if ("POST".equals(method) && path.equals("/api/ecom/user/add-to-cart")) {
+            Map<?, ?> request = JSON.toType(body, Map.class);
+            synchronized (carts) {
+                carts.computeIfAbsent(String.valueOf(request.get("_id")), id -> new ArrayList<>())
+                        .add((Map<?, ?>) request.get("product"));
+            }
+            respond(exchange, 200, JSON.toJson(Map.of("message", "Product Added To Cart")));
+        } else if ("DELETE".equals(method) && path.startsWith("/api/ecom/user/remove-from-cart/")) {
+            String[] ids = path.substring("/api/ecom/user/remove-from-cart/".length()).split("/");
+            synchronized (carts) {
+                carts.getOrDefault(ids[0], new ArrayList<>()).removeIf(product -> ids[1].equals(product.get("_id")));
+            }
+            respond(exchange, 200, JSON.toJson(Map.of("message", "Product Removed from cart")));
+        } else {
+            respond(exchange, 404, JSON.toJson(Map.of("message", "Not found")));
+        }
+    }
+
+    private void cartProducts(HttpExchange exchange, String userId) throws IOException {
+        List<Map<?, ?>> cart;
+        synchronized (carts) {
+            cart = new ArrayList<>(carts.getOrDefault(userId, List.of()));
+        }
+        if (cart.isEmpty()) {
+            respond(exchange, 404, JSON.toJson(Map.of("message", "No Product in Cart")));
+        } else {
+            respond(exchange, 200, JSON.toJson(Map.of("products", cart, "count", cart.size())));
+        }
+    }
+
+    private void login(HttpExchange exchange, String body) throws IOException {
+        loginRequests.incrementAndGet();
+        Map<?, ?> credentials = JSON.toType(body, Map.class);
+        Object email = credentials.get("userEmail");
+        if (email == null || !String.valueOf(credentials.get("userPassword")).equals(users.get(email))) {
+            respond(exchange, 400, JSON.toJson(Map.of("message", "Incorrect email or password.")));
+            return;
+        }
+        String token = UUID.randomUUID().toString();
+        tokens.put(token, String.valueOf(email));
+        respond(exchange, 200, JSON.toJson(Map.of("token", token, "userId", userId(String.valueOf(email)),
+                "message", "Login Successfully")));
+    }
+
+    private static String userId(String email) {
+        return Integer.toHexString(email.hashCode());
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream os = exchange.getResponseBody()) {
+            os.write(bytes);
+        }
+    }
+}
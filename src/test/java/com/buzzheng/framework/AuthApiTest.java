@@ -0,0 +1,52 @@
+package com.buzzheng.framework;
+
+import api.AuthApi;
+import com.buzzheng.TestComponents.StubShopServer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+/**
+ * API login against a local stand-in login endpoint (no browser needed)
+ */
+public class AuthApiTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "secret";
+
+    @Test(groups = {"framework"},
+            description = "Valid credentials return a token issued to the user")
+    public void testLoginReturnsToken() throws Exception {
+        try (StubShopServer shop = new StubShopServer().withUser(EMAIL, PASSWORD)) {
+            AuthApi.AuthToken token = new AuthApi(shop.getApiUrl(), Duration.ofSeconds(5)).login(EMAIL, PASSWORD);
+
+            Assert.assertNotNull(token, "Login should succeed");
+            Assert.assertEquals(shop.getUser(token.getToken()), EMAIL, "Token should belong to the user");
+            Assert.assertNotNull(token.getUserId(), "User id should be reported");
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "Rejected credentials give no token, so the caller falls back to the login page")
+    public void testRejectedLoginReturnsNull() throws Exception {
+        try (StubShopServer shop = new StubShopServer().withUser(EMAIL, PASSWORD)) {
+            AuthApi.AuthToken token = new AuthApi(shop.getApiUrl(), Duration.ofSeconds(5)).login(EMAIL, "wrong");
+
+            Assert.assertNull(token, "Wrong password should not yield a token");
+            Assert.assertEquals(shop.getLoginRequests(), 1);
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "An unreachable API gives no token instead of failing the test")
+    public void testUnavailableApiReturnsNull() throws Exception {
+        String apiUrl;
+        try (StubShopServer shop = new StubShopServer()) {
+            apiUrl = shop.getApiUrl();
+        }
+        AuthApi.AuthToken token = new AuthApi(apiUrl, Duration.ofSeconds(2)).login(EMAIL, PASSWORD);
+
+        Assert.assertNull(token, "No token expected when the API is down");
+    }
+}
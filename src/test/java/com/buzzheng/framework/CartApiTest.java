@@ -0,0 +1,76 @@
+package com.buzzheng.framework;
+
+import api.AuthApi;
+import api.CartApi;
+import com.buzzheng.TestComponents.StubShopServer;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Cart seeding and cleanup against a local stub of the shop API (no browser needed)
+ */
+public class CartApiTest {
+
+    private static final String EMAIL = "user@example.com";
+    private static final String PASSWORD = "secret";
+
+    @Test(groups = {"framework"},
+            description = "Seeding replaces leftovers with exactly the requested products")
+    public void testReplaceCart() throws Exception {
+        try (StubShopServer shop = shop()) {
+            shop.addToCart(EMAIL, "IPHONE 13 PRO");
+            AuthApi.AuthToken auth = login(shop);
+            CartApi cart = new CartApi(shop.getApiUrl(), Duration.ofSeconds(5));
+
+            Assert.assertTrue(cart.replaceCart(auth, List.of("ZARA COAT 3", "ADIDAS ORIGINAL")));
+
+            Assert.assertEqualsNoOrder(shop.getCart(EMAIL), List.of("ZARA COAT 3", "ADIDAS ORIGINAL"));
+            Assert.assertEqualsNoOrder(cart.getCartProductNames(auth), List.of("ZARA COAT 3", "ADIDAS ORIGINAL"));
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "Clearing empties the cart")
+    public void testClearCart() throws Exception {
+        try (StubShopServer shop = shop()) {
+            AuthApi.AuthToken auth = login(shop);
+            CartApi cart = new CartApi(shop.getApiUrl(), Duration.ofSeconds(5));
+            cart.replaceCart(auth, List.of("ZARA COAT 3"));
+
+            Assert.assertTrue(cart.clearCart(auth));
+
+            Assert.assertTrue(shop.getCart(EMAIL).isEmpty(), "Cart should be empty");
+            Assert.assertTrue(cart.clearCart(auth), "Clearing an empty cart should succeed");
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "Unknown products and an unreachable API are reported, not thrown")
+    public void testSeedingFailures() throws Exception {
+        String apiUrl;
+        AuthApi.AuthToken auth;
+        try (StubShopServer shop = shop()) {
+            apiUrl = shop.getApiUrl();
+            auth = login(shop);
+            CartApi cart = new CartApi(apiUrl, Duration.ofSeconds(5));
+
+            Assert.assertFalse(cart.replaceCart(auth, List.of("NON EXISTENT PRODUCT")));
+            Assert.assertTrue(shop.getCart(EMAIL).isEmpty(), "Nothing should be added");
+        }
+        Assert.assertFalse(new CartApi(apiUrl, Duration.ofSeconds(2)).replaceCart(auth, List.of("ZARA COAT 3")));
+    }
+
+    private static StubShopServer shop() throws Exception {
+        return new StubShopServer().withUser(EMAIL, PASSWORD)
+                .withProduct("ZARA COAT 3").withProduct("ADIDAS ORIGINAL").withProduct("IPHONE 13 PRO");
+    }
+
+    private static AuthApi.AuthToken login(StubShopServer shop) {
+        AuthApi.AuthToken auth = new AuthApi(shop.getApiUrl(), Duration.ofSeconds(5)).login(EMAIL, PASSWORD);
+        Assert.assertNotNull(auth, "Login against the stub should succeed");
+        return auth;
+    }
+}
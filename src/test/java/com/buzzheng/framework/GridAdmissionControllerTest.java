@@ -0,0 +1,98 @@
+package com.buzzheng.framework;
+
+import com.buzzheng.TestComponents.StubGridServer;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+import ui.driver.GridAdmissionController;
+import ui.driver.GridTransport;
+import ui.driver.WebDriverFactory;
+
+import java.net.URI;
+import java.net.URL;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Grid admission control against a local stand-in grid (no browser needed)
+ */
+public class GridAdmissionControllerTest {
+
+    private static final String[] OVERRIDDEN = {"execution", "grid.url", "grid.status.poll", "grid.session.stagger"};
+
+    @AfterMethod(alwaysRun = true)
+    public void clearOverrides() {
+        for (String key : OVERRIDDEN) {
+            System.clearProperty(key);
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "Concurrent session requests never exceed the free grid slots")
+    public void testSessionsAdmittedWithinFreeSlots() throws Exception {
+        try (StubGridServer grid = new StubGridServer(2, "chrome")) {
+            URL gridUrl = new URL(grid.getUrl());
+            GridAdmissionController controller = new GridAdmissionController(
+                    URI.create(grid.getUrl() + "/status"), "chrome", 50, 0, Duration.ofSeconds(30));
+
+            ExecutorService pool = Executors.newFixedThreadPool(5);
+            List<Future<?>> results = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                results.add(pool.submit(() -> {
+                    WebDriver driver = controller.admit(() ->
+                            new RemoteWebDriver(GridTransport.createCommandExecutor(gridUrl), new ChromeOptions()));
+                    Thread.sleep(300);
+                    driver.quit();
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+            pool.shutdown();
+
+            Assert.assertEquals(grid.getRejectedSessions(), 0, "Grid should never reject a session");
+            Assert.assertTrue(grid.getMaxConcurrentSessions() <= 2,
+                    "At most 2 concurrent sessions expected, got " + grid.getMaxConcurrentSessions());
+            Assert.assertEquals(controller.getAdmissions(), 5);
+            Assert.assertTrue(controller.getQueuedAdmissions() >= 3, "Sessions beyond the slot count should queue");
+        }
+    }
+
+    @Test(groups = {"framework"},
+            description = "WebDriverFactory records queue wait while the only slot is busy")
+    public void testFactoryRecordsQueueWait() throws Exception {
+        try (StubGridServer grid = new StubGridServer(1, "chrome")) {
+            System.setProperty("execution", "grid");
+            System.setProperty("grid.url", grid.getUrl());
+            System.setProperty("grid.status.poll", "50");
+            System.setProperty("grid.session.stagger", "0");
+
+            WebDriver first = WebDriverFactory.createDriver();
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(400);
+                } catch (InterruptedException ignored) {
+                    Thread.currentThread().interrupt();
+                }
+                WebDriverFactory.quitDriver(first);
+            });
+            releaser.start();
+
+            WebDriver second = WebDriverFactory.createDriver();
+            long queueWait = GridAdmissionController.getLastQueueWaitMillis();
+            WebDriverFactory.quitDriver(second);
+            releaser.join();
+
+            Assert.assertEquals(grid.getRejectedSessions(), 0, "Second session should wait, not be rejected");
+            Assert.assertTrue(queueWait >= 300, "Queue wait should cover the busy slot, was " + queueWait + "ms");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.buzzheng.framework;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.PageFactory;
+import ui.component.PageBindings;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Plain timing harness: PageFactory.initElements versus PageBindings.bind for one page class
+ * No browser is needed - neither binds any element until it is used, so a stub driver is enough.
+ * Run it after mvn test-compile with the test classpath, for example:
+ *   mvn -q dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat cp.txt) com.buzzheng.framework.PageBindingsBenchmark [pages]
+ */
+public class PageBindingsBenchmark {
+
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        int pages = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, methodArgs) -> {
+                    throw new UnsupportedOperationException("Stub driver: " + method.getName());
+                });
+
+        // Warm-up rounds let the JIT compile both paths before anything is reported
+        for (int round = 0; round <= ROUNDS; round++) {
+            double pageFactory = measure(pages, page -> PageFactory.initElements(driver, page));
+            double pageBindings = measure(pages, page -> PageBindings.bind(page, driver, 0, null));
+            if (round > 0) {
+                System.out.printf("Round %d: PageFactory.initElements %.2f µs/page, PageBindings.bind %.2f µs/page%n",
+                        round, pageFactory, pageBindings);
+            }
+        }
+    }
+
+    /**
+     * @return Average microseconds per page
+     */
+    private static double measure(int pages, Consumer<Object> binder) {
+        long start = System.nanoTime();
+        for (int i = 0; i < pages; i++) {
+            binder.accept(new SamplePage());
+        }
+        return (System.nanoTime() - start) / 1000.0 / pages;
+    }
+
+    /**
+     * Field mix of a typical page object in this project
+     */
+    public static class SamplePage {
+        @FindBy(id = "userEmail")
+        private WebElement email;
+
+        @FindBy(id = "userPassword")
+        private WebElement password;
+
+        @FindBy(css = "#login")
+        private WebElement submit;
+
+        @FindBy(css = "[class*='flyInOut']")
+        private WebElement errorMessage;
+
+        @FindBy(css = ".mb-3")
+        private List<WebElement> products;
+
+        // Unannotated: located by id or name, like PageFactory does
+        private WebElement search;
+    }
+}
@@ -1,15 +1,16 @@
 package com.buzzheng.rahulshettyacademy;
 
 import com.buzzheng.TestComponents.BaseTest;
+import com.buzzheng.TestComponents.StartUrl;
 import ui.rahulshetty.AutomaticPracticePage;
 import org.testng.Assert;
 import org.testng.annotations.*;
 
 public class AutomaticPracticePageTest extends BaseTest {
     @Test
+    @StartUrl("https://rahulshettyacademy.com/AutomationPractice/")
     public void getLoginButtonText() {
         AutomaticPracticePage page = new AutomaticPracticePage(driver);
-        page.navigateTo("https://rahulshettyacademy.com/AutomationPractice/");
         String siblingText = page.getSiblingButtonText();
         String parentSiblingText = page.getParentSiblingButtonText();
 
@@ -52,9 +52,7 @@ public class ErrorValidationTest extends BaseTest {
         String addedProduct = "ZARA COAT 3";
         String searchProduct = "ZARA COAT 33";
 
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(username, password);
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(username, password);
         productCatalogue.addProductToCart(addedProduct);
 
         CartPage cartPage = productCatalogue.goToCart();
@@ -78,9 +76,7 @@ public class ErrorValidationTest extends BaseTest {
     @Test(priority = 5, groups = {"regression", "ui", "product"},
             description = "Verify product catalogue loads")
     public void testProductCatalogueLoad() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(
                 "scrashers@gmail.com", "@QWE12345qwe");
 
         Assert.assertTrue(productCatalogue.isPageLoaded(),
@@ -92,9 +88,7 @@ public class ErrorValidationTest extends BaseTest {
     @Test(priority = 6, groups = {"regression", "ui", "product", "error"},
             description = "Verify searching for non-existent product")
     public void testNonExistentProduct() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(
                 "scrashers@gmail.com", "@QWE12345qwe");
 
         boolean productExists = productCatalogue.isProductAvailable("NON EXISTENT PRODUCT");
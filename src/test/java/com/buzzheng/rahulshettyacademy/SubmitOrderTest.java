@@ -3,6 +3,7 @@
 // ========================================
 package com.buzzheng.rahulshettyacademy;
 
+import api.AuthApi;
 import com.buzzheng.TestComponents.BaseTest;
 import org.openqa.selenium.WebElement;
 import org.testng.Assert;
@@ -20,9 +21,7 @@ public class SubmitOrderTest extends BaseTest {
     @Test(priority = 1, groups = {"smoke", "e2e", "purchase"},
             description = "Complete order submission workflow")
     public void testSubmitOrder() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(USERNAME, PASSWORD);
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(USERNAME, PASSWORD);
 
         List<WebElement> products = productCatalogue.getProductList();
         Assert.assertFalse(products.isEmpty(), "Product catalogue should not be empty");
@@ -52,9 +51,7 @@ public class SubmitOrderTest extends BaseTest {
             dependsOnMethods = {"testSubmitOrder"},
             description = "Verify order appears in order history")
     public void testOrderHistory() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(USERNAME, PASSWORD);
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(USERNAME, PASSWORD);
 
         OrderPage orderPage = productCatalogue.goToOrders();
 
@@ -65,12 +62,12 @@ public class SubmitOrderTest extends BaseTest {
     @Test(priority = 3, groups = {"regression", "ui", "cart"},
             description = "Verify multiple products can be added to cart")
     public void testMultipleProductsInCart() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(USERNAME, PASSWORD);
-
-        productCatalogue.addProductToCart("ZARA COAT 3");
-        productCatalogue.addProductToCart("ADIDAS ORIGINAL");
+        List<String> productNames = List.of("ZARA COAT 3", "ADIDAS ORIGINAL");
+        AuthApi.AuthToken seeded = seedCart(USERNAME, PASSWORD, productNames);
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(USERNAME, PASSWORD, seeded);
+        if (seeded == null) {
+            productCatalogue.addProductsToCart(productNames);
+        }
 
         CartPage cartPage = productCatalogue.goToCart();
 
@@ -85,10 +82,11 @@ public class SubmitOrderTest extends BaseTest {
     @Test(priority = 4, groups = {"regression", "ui", "checkout"},
             description = "Verify checkout page loads correctly")
     public void testCheckoutPageLoad() {
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(USERNAME, PASSWORD);
-        productCatalogue.addProductToCart(PRODUCT_NAME);
+        AuthApi.AuthToken seeded = seedCart(USERNAME, PASSWORD, List.of(PRODUCT_NAME));
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(USERNAME, PASSWORD, seeded);
+        if (seeded == null) {
+            productCatalogue.addProductToCart(PRODUCT_NAME);
+        }
 
         CartPage cartPage = productCatalogue.goToCart();
         CheckoutPage checkoutPage = cartPage.goToCheckout();
@@ -106,9 +104,7 @@ public class SubmitOrderTest extends BaseTest {
         String password = "Iamki000";
         String productName = "ADIDAS ORIGINAL";
 
-        LandingPage landingPage = new LandingPage(driver);
-        landingPage.goTo();
-        ProductCataloguePage productCatalogue = landingPage.loginApplication(username, password);
+        ProductCataloguePage productCatalogue = new LandingPage(driver).login(username, password);
 
         productCatalogue.addProductToCart(productName);
 